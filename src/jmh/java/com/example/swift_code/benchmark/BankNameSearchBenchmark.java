@@ -0,0 +1,45 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankNameSearchIndex;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BankNameSearchIndex#search} over a synthetic directory. "bank 4242" is a selective query,
+ * "bank 42" scans about a tenth of the codes and "synthetic" matches every code, which shows the cost of
+ * ranking a broad result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BankNameSearchBenchmark {
+
+    @Param({"100000"})
+    int rows;
+
+    @Param({"bank 4242", "bank 42", "synthetic"})
+    String query;
+
+    private BankNameSearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        BankSwiftPrefixIndex prefixIndex = new BankSwiftPrefixIndex(null);
+        prefixIndex.putAll(SyntheticBankSwiftData.entities(rows));
+        searchIndex = new BankNameSearchIndex(prefixIndex, new SwiftProperties());
+        searchIndex.rebuild();
+    }
+
+    @Benchmark
+    public List<BankSwift> search() {
+        return searchIndex.search(query, null, 20);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankNameSearchIndex;
+import com.example.swift_code.index.BankSwiftDirectory;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.ingest.BankSwiftCsvIngestor;
+import com.example.swift_code.ingest.SwiftSourceClient;
+import com.example.swift_code.mapper.BankSwiftMapperImpl;
+import com.example.swift_code.repository.BankSwiftRepository;
+import com.example.swift_code.repository.BankSwiftSummary;
+import com.example.swift_code.service.BankSwiftService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the uncached {@link BankSwiftService} reads for a headquarter, a branch and a whole country.
+ * With {@code backend=H2} the service runs in the application against H2 (or PostgreSQL, see
+ * {@link BenchmarkApplication}); with {@code backend=MOCK} it is built by hand around a repository proxy that
+ * answers from maps, so the samples show the service and mapping cost without the database. Every synthetic
+ * row is in one country.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BankSwiftServiceBenchmark {
+    private static final String COUNTRY = "US";
+
+    @Param({"H2", "MOCK"})
+    String backend;
+
+    @Param({"100", "1000", "10000"})
+    int countrySize;
+
+    private ConfigurableApplicationContext context;
+    private BankSwiftRepository repository;
+    private BankSwiftService service;
+    private String[] headquarterCodes;
+    private String[] branchCodes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<BankSwift> bankSwifts = SyntheticBankSwiftData.entitiesInCountry(countrySize, COUNTRY);
+        int banks = countrySize / (SyntheticBankSwiftData.BRANCHES_PER_BANK + 1);
+        headquarterCodes = new String[banks];
+        branchCodes = new String[banks];
+        for (int bank = 0; bank < banks; bank++) {
+            headquarterCodes[bank] = SyntheticBankSwiftData.headquarterCode(bank);
+            branchCodes[bank] = SyntheticBankSwiftData.branchCode(bank);
+        }
+        if (backend.equals("H2")) {
+            context = BenchmarkApplication.start(Map.of("swift.cache.enabled", "false"));
+            repository = context.getBean(BankSwiftRepository.class);
+            service = context.getBean(BankSwiftService.class);
+            repository.deleteAllInBatch();
+            repository.saveAll(bankSwifts);
+            context.getBean(BankSwiftPrefixIndex.class).rebuild();
+        } else {
+            service = mockedService(bankSwifts);
+        }
+    }
+
+    private static BankSwiftService mockedService(List<BankSwift> bankSwifts) {
+        Map<String, BankSwift> byCode = bankSwifts.stream()
+                .collect(Collectors.toMap(BankSwift::getSwiftCode, Function.identity()));
+        List<BankSwiftSummary> summaries = bankSwifts.stream()
+                .sorted((first, second) -> first.getSwiftCode().compareTo(second.getSwiftCode()))
+                .map(bankSwift -> new BankSwiftSummary(bankSwift.getSwiftCode(), bankSwift.getCountryIS02(),
+                        bankSwift.getCountryName(), bankSwift.getBankName(), bankSwift.getAddress(), bankSwift.isHeadquarter()))
+                .toList();
+
+        BankSwiftRepository repository = (BankSwiftRepository) Proxy.newProxyInstance(
+                BankSwiftRepository.class.getClassLoader(), new Class<?>[]{BankSwiftRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(byCode.get((String) args[0]));
+                    case "findSummariesByCountryIS02" -> COUNTRY.equals(args[0]) ? summaries : List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        BankSwiftPrefixIndex prefixIndex = new BankSwiftPrefixIndex(repository);
+        prefixIndex.putAll(bankSwifts);
+
+        SwiftProperties properties = new SwiftProperties();
+        return new BankSwiftService(repository, new BankSwiftMapperImpl(), prefixIndex, mock(BankNameSearchIndex.class),
+                new BankSwiftDirectory(prefixIndex, properties), mock(BankSwiftCsvIngestor.class), mock(SwiftSourceClient.class),
+                properties, new BankSwiftCache(properties, new ObjectMapper()), null);
+    }
+
+    @Benchmark
+    public BankSwiftDto getHeadquarter() {
+        return service.getBankSwiftDto(headquarterCodes[ThreadLocalRandom.current().nextInt(headquarterCodes.length)]);
+    }
+
+    @Benchmark
+    public BankSwiftDto getBranch() {
+        return service.getBankSwiftDto(branchCodes[ThreadLocalRandom.current().nextInt(branchCodes.length)]);
+    }
+
+    @Benchmark
+    public CountryBankSwiftDto getAllCountryCodes() {
+        return service.getAllCountryCodes(COUNTRY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            repository.deleteAllInBatch();
+            context.close();
+        }
+    }
+}
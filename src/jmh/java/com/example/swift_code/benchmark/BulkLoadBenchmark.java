@@ -0,0 +1,61 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.config.SwiftProperties.LoadMode;
+import com.example.swift_code.ingest.BankSwiftCsvIngestor;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.ingest.IngestProgress;
+import com.example.swift_code.repository.BankSwiftRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JDBC batch and PostgreSQL COPY load paths of {@link BankSwiftCsvIngestor}.
+ * Runs against H2 unless SWIFT_BENCHMARK_DATASOURCE_URL points at a PostgreSQL database;
+ * on H2 the COPY mode falls back to JDBC batching, so both rows measure the same path.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkLoadBenchmark {
+
+    @Param({"JDBC_BATCH", "COPY"})
+    LoadMode loadMode;
+
+    @Param({"100000"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+    private BankSwiftCsvIngestor ingestor;
+    private BankSwiftRepository repository;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start(Map.of("swift.ingest.load-mode", loadMode.name()));
+        ingestor = context.getBean(BankSwiftCsvIngestor.class);
+        repository = context.getBean(BankSwiftRepository.class);
+        csv = SyntheticBankSwiftData.csv(rows);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        repository.deleteAllInBatch();
+    }
+
+    @Benchmark
+    public long ingest() {
+        return ingestor.ingest(new ByteArrayInputStream(csv), ImportPolicy.FAIL_ALL, new IngestProgress());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankSwiftSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares single-code and branch lookups in a skip list of {@link BankSwift} entities keyed by SWIFT code
+ * with the same lookups in a {@link BankSwiftSnapshot}, which keeps packed codes and columnar records.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodeIndexBenchmark {
+
+    @Param({"100000"})
+    int rows;
+
+    private ConcurrentSkipListMap<String, BankSwift> entities;
+    private BankSwiftSnapshot snapshot;
+    private String[] branchCodes;
+    private String[] headquarterCodes;
+
+    @Setup(Level.Trial)
+    public void buildIndexes() {
+        List<BankSwift> bankSwifts = SyntheticBankSwiftData.entities(rows);
+        entities = new ConcurrentSkipListMap<>();
+        bankSwifts.forEach(bankSwift -> entities.put(bankSwift.getSwiftCode(), bankSwift));
+        snapshot = BankSwiftSnapshot.of(bankSwifts);
+        int banks = rows / (SyntheticBankSwiftData.BRANCHES_PER_BANK + 1);
+        branchCodes = new String[banks];
+        headquarterCodes = new String[banks];
+        for (int bank = 0; bank < banks; bank++) {
+            branchCodes[bank] = SyntheticBankSwiftData.branchCode(bank);
+            headquarterCodes[bank] = SyntheticBankSwiftData.headquarterCode(bank);
+        }
+    }
+
+    @Benchmark
+    public BankSwift entityFind() {
+        return entities.get(branchCodes[ThreadLocalRandom.current().nextInt(branchCodes.length)]);
+    }
+
+    @Benchmark
+    public Optional<BankSwift> snapshotFind() {
+        return snapshot.find(branchCodes[ThreadLocalRandom.current().nextInt(branchCodes.length)]);
+    }
+
+    @Benchmark
+    public List<BankSwift> entityBranches() {
+        String headquarterCode = headquarterCodes[ThreadLocalRandom.current().nextInt(headquarterCodes.length)];
+        String baseCode = headquarterCode.substring(0, 8);
+        return entities.subMap(baseCode, true, baseCode + Character.MAX_VALUE, false)
+                .values()
+                .stream()
+                .filter(bankSwift -> !bankSwift.getSwiftCode().equals(headquarterCode))
+                .toList();
+    }
+
+    @Benchmark
+    public List<BankSwift> snapshotBranches() {
+        return snapshot.findBranches(headquarterCodes[ThreadLocalRandom.current().nextInt(headquarterCodes.length)]);
+    }
+}
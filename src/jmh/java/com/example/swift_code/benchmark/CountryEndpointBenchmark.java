@@ -0,0 +1,63 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.config.SwiftProperties.ReadMode;
+import com.example.swift_code.controller.BankSwiftController;
+import com.example.swift_code.repository.BankSwiftRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the country endpoint with each read-side validation mode. The response cache is disabled,
+ * because cached bytes are validated only once, so the samples show what validating every branch DTO
+ * adds to an uncached request; compare the p0.99 rows.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CountryEndpointBenchmark {
+    private static final String COUNTRY = "US";
+
+    @Param({"ALL", "SAMPLED", "NONE"})
+    ReadMode readMode;
+
+    @Param({"3000"})
+    int codes;
+
+    private ConfigurableApplicationContext context;
+    private BankSwiftRepository repository;
+    private BankSwiftController controller;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start(Map.of(
+                "swift.validation.read-mode", readMode.name(),
+                "swift.cache.enabled", "false"));
+        repository = context.getBean(BankSwiftRepository.class);
+        controller = context.getBean(BankSwiftController.class);
+
+        repository.deleteAllInBatch();
+        repository.saveAll(SyntheticBankSwiftData.entitiesInCountry(codes, COUNTRY));
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> getAllCountryCodes() {
+        return controller.getAllCountryCodes(COUNTRY,
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        repository.deleteAllInBatch();
+        context.close();
+    }
+}
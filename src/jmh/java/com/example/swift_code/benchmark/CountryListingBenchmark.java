@@ -0,0 +1,63 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.mapper.BankSwiftMapper;
+import com.example.swift_code.repository.BankSwiftRepository;
+import com.example.swift_code.service.BankSwiftService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares listing a whole country through managed entities with the projection query used by
+ * {@link BankSwiftService#getAllCountryCodes}. Every synthetic row is stored under one country.
+ * Run with {@code -Djmh.args="-prof gc"} to compare allocation per listing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CountryListingBenchmark {
+    private static final String COUNTRY = "US";
+
+    @Param({"5000"})
+    int codes;
+
+    private ConfigurableApplicationContext context;
+    private BankSwiftRepository repository;
+    private BankSwiftMapper mapper;
+    private BankSwiftService service;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start(Map.of("swift.cache.enabled", "false"));
+        repository = context.getBean(BankSwiftRepository.class);
+        mapper = context.getBean(BankSwiftMapper.class);
+        service = context.getBean(BankSwiftService.class);
+
+        repository.deleteAllInBatch();
+        repository.saveAll(SyntheticBankSwiftData.entitiesInCountry(codes, COUNTRY));
+    }
+
+    @Benchmark
+    public List<BankSwiftDto> entities() {
+        return repository.findAllByCountryIS02(COUNTRY).stream().map(mapper::toDTOReduced).toList();
+    }
+
+    @Benchmark
+    public CountryBankSwiftDto projections() {
+        return service.getAllCountryCodes(COUNTRY);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        repository.deleteAllInBatch();
+        context.close();
+    }
+}
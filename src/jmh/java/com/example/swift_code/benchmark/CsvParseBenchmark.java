@@ -0,0 +1,73 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.BankSwiftReject;
+import com.example.swift_code.ingest.BankSwiftCsvIngestor;
+import com.example.swift_code.ingest.BankSwiftLoader;
+import com.example.swift_code.ingest.BankSwiftLoaderFactory;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.ingest.IngestMetrics;
+import com.example.swift_code.ingest.IngestProgress;
+import com.example.swift_code.ingest.ParallelRowValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures reading, mapping and validating a synthetic directory file with {@link BankSwiftCsvIngestor}.
+ * Rows go to a loader that discards them, so no database is involved; compare with
+ * {@link BulkLoadBenchmark} for the cost of writing.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvParseBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    private BankSwiftCsvIngestor ingestor;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SwiftProperties properties = new SwiftProperties();
+        properties.getIngest().setBatchSize(500);
+        BankSwiftLoaderFactory loaderFactory = mock(BankSwiftLoaderFactory.class);
+        when(loaderFactory.open()).thenAnswer(invocation -> new DiscardingLoader());
+        ParallelRowValidator validator = new ParallelRowValidator(
+                Validation.buildDefaultValidatorFactory().getValidator(), properties);
+        ingestor = new BankSwiftCsvIngestor(null, loaderFactory, validator, properties, new IngestMetrics(new SimpleMeterRegistry()));
+        csv = SyntheticBankSwiftData.csv(rows);
+    }
+
+    @Benchmark
+    public long parse() {
+        return ingestor.ingest(new ByteArrayInputStream(csv), ImportPolicy.FAIL_ALL, new IngestProgress());
+    }
+
+    private static final class DiscardingLoader implements BankSwiftLoader {
+        @Override
+        public void load(List<BankSwift> batch) {
+        }
+
+        @Override
+        public void reject(List<BankSwiftReject> rejects) {
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+}
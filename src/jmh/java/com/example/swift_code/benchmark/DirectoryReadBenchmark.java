@@ -0,0 +1,67 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftPageDto;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.repository.BankSwiftRepository;
+import com.example.swift_code.service.BankSwiftService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures read throughput with and without {@code swift.directory.memory-served}. The response cache is
+ * disabled so every database-served read runs its queries; run with {@code -t} to compare how both modes
+ * scale with threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectoryReadBenchmark {
+
+    @Param({"false", "true"})
+    boolean memoryServed;
+
+    @Param({"10000"})
+    int codes;
+
+    private ConfigurableApplicationContext context;
+    private BankSwiftRepository repository;
+    private BankSwiftService service;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start(Map.of(
+                "swift.directory.memory-served", String.valueOf(memoryServed),
+                "swift.cache.enabled", "false"));
+        repository = context.getBean(BankSwiftRepository.class);
+        service = context.getBean(BankSwiftService.class);
+
+        repository.deleteAllInBatch();
+        repository.saveAll(SyntheticBankSwiftData.entities(codes));
+        context.getBean(BankSwiftPrefixIndex.class).rebuild();
+    }
+
+    @Benchmark
+    public BankSwiftDto getHeadquarter() {
+        int bank = ThreadLocalRandom.current().nextInt(codes / (SyntheticBankSwiftData.BRANCHES_PER_BANK + 1));
+        return service.getBankSwiftDto(SyntheticBankSwiftData.headquarterCode(bank));
+    }
+
+    @Benchmark
+    public CountryBankSwiftPageDto getCountryPage() {
+        return service.getCountryCodesPage(SyntheticBankSwiftData.country(ThreadLocalRandom.current().nextInt(16)), 100, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        repository.deleteAllInBatch();
+        context.close();
+    }
+}
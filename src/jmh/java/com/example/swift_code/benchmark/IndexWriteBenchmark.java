@@ -0,0 +1,55 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.index.BankSwiftSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single add in the code index, which goes to the overlay and is folded into a new snapshot every
+ * 1024 changes, against rebuilding the snapshot for every add. Each add replaces the address of a random
+ * existing code, so the size of the directory stays the same.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexWriteBenchmark {
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    private BankSwiftPrefixIndex prefixIndex;
+    private BankSwiftSnapshot snapshot;
+    private long updates;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        List<BankSwift> bankSwifts = SyntheticBankSwiftData.entities(rows);
+        prefixIndex = new BankSwiftPrefixIndex(null);
+        prefixIndex.putAll(bankSwifts);
+        snapshot = BankSwiftSnapshot.of(bankSwifts);
+    }
+
+    private BankSwift randomEntity() {
+        BankSwift bankSwift = SyntheticBankSwiftData.entity(ThreadLocalRandom.current().nextInt(rows));
+        bankSwift.setAddress("Updated address " + ++updates);
+        return bankSwift;
+    }
+
+    @Benchmark
+    public void indexPut() {
+        prefixIndex.put(randomEntity());
+    }
+
+    @Benchmark
+    public BankSwiftSnapshot snapshotRebuild() {
+        return snapshot.with(List.of(randomEntity()), List.of());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.mapper.BankSwiftMapper;
+import com.example.swift_code.mapper.BankSwiftMapperImpl;
+import com.example.swift_code.repository.BankSwiftSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each {@link BankSwiftMapper} method on one synthetic code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    private final BankSwiftMapper mapper = new BankSwiftMapperImpl();
+
+    private BankSwift headquarter;
+    private BankSwift branch;
+    private BankSwiftSummary summary;
+    private BankSwiftDto dto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        headquarter = SyntheticBankSwiftData.entity(0);
+        branch = SyntheticBankSwiftData.entity(1);
+        summary = new BankSwiftSummary(branch.getSwiftCode(), branch.getCountryIS02(), branch.getCountryName(),
+                branch.getBankName(), branch.getAddress(), branch.isHeadquarter());
+        dto = mapper.toDTOBranch(branch);
+    }
+
+    @Benchmark
+    public BankSwift toEntity() {
+        return mapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public BankSwiftDto toDTOHeadquarter() {
+        return mapper.toDTOHeadquarter(headquarter);
+    }
+
+    @Benchmark
+    public BankSwiftDto toDTOBranch() {
+        return mapper.toDTOBranch(branch);
+    }
+
+    @Benchmark
+    public BankSwiftDto toDTOReducedEntity() {
+        return mapper.toDTOReduced(branch);
+    }
+
+    @Benchmark
+    public BankSwiftDto toDTOReducedSummary() {
+        return mapper.toDTOReduced(summary);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.cache.SerializedResponse;
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.mapper.BankSwiftMapperImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of a {@link CountryBankSwiftDto} with the application's default
+ * {@link ObjectMapper} settings, and the same response built as a {@link BankSwiftCache} entry, which adds
+ * the gzip copy for responses of at least {@code swift.cache.gzip-min-size} bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    private static final String COUNTRY = "US";
+
+    @Param({"100", "1000", "10000"})
+    int branches;
+
+    private ObjectMapper objectMapper;
+    private BankSwiftCache cache;
+    private CountryBankSwiftDto country;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        SwiftProperties properties = new SwiftProperties();
+        properties.getCache().setEnabled(false);
+        cache = new BankSwiftCache(properties, objectMapper);
+        BankSwiftMapperImpl mapper = new BankSwiftMapperImpl();
+        country = new CountryBankSwiftDto(COUNTRY, "UNITED STATES", SyntheticBankSwiftData.entitiesInCountry(branches, COUNTRY)
+                .stream()
+                .map(mapper::toDTOReduced)
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(country);
+    }
+
+    @Benchmark
+    public SerializedResponse cacheEntry() {
+        return cache.getCountry(COUNTRY, ignored -> country);
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.swift_code.loadtest;
+
+import com.example.swift_code.benchmark.BenchmarkApplication;
+import com.example.swift_code.benchmark.SyntheticBankSwiftData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the application on a random port, seeds it with a synthetic directory through a full upload and drives
+ * a fixed-rate mix of reads and writes from a pool of clients, with one upload in the middle of the run.
+ * Latencies are measured from the time each request was scheduled, so a stalled server is not hidden by
+ * clients waiting on it. Results are written as JSON and compared against a stored baseline.
+ */
+public class LoadTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(1);
+    private static final String[] ENDPOINTS = {"headquarter", "branch", "country", "countryPage", "create", "delete", "upload"};
+
+    private final LoadTestConfig config;
+    private final URI baseUri;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final AtomicLong createdCodes = new AtomicLong();
+    private final int banks;
+
+    public LoadTest(LoadTestConfig config, URI baseUri) {
+        this.config = config;
+        this.baseUri = baseUri;
+        this.banks = config.codes() / (SyntheticBankSwiftData.BRANCHES_PER_BANK + 1);
+        for (String endpoint : ENDPOINTS) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Path csv = Files.createTempFile("swift-codes", ".csv");
+        Files.write(csv, SyntheticBankSwiftData.csv(config.codes()));
+
+        int exitCode;
+        ConfigurableApplicationContext context = BenchmarkApplication.start(Map.of(
+                "server.port", "0",
+                "server.tomcat.threads.max", Integer.toString(config.tomcatThreads()),
+                "spring.threads.virtual.enabled", Boolean.toString(config.threads().equals("virtual")),
+                "swift.database.max-concurrency", Integer.toString(config.dbConcurrency()),
+                "swift.source.url", csv.toUri().toString()), WebApplicationType.SERVLET);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            exitCode = new LoadTest(config, URI.create("http://localhost:" + port + "/v1/swift-codes")).runAndCompare();
+        } finally {
+            context.close();
+            Files.deleteIfExists(csv);
+        }
+        System.exit(exitCode);
+    }
+
+    private int runAndCompare() throws IOException, InterruptedException {
+        if (!"SUCCEEDED".equals(upload("full"))) {
+            throw new IllegalStateException("Seeding the synthetic directory failed.");
+        }
+
+        LoadTestReport report = run();
+        System.out.print(report.table());
+        report.write(config.result());
+
+        if (config.updateBaseline()) {
+            report.write(config.baseline());
+            System.out.println("Baseline written to " + config.baseline());
+            return 0;
+        }
+        if (!Files.exists(config.baseline())) {
+            System.out.println("No baseline at " + config.baseline() + ", nothing to compare.");
+            return 0;
+        }
+        List<String> regressions = report.regressions(LoadTestReport.read(config.baseline()), config.tolerance(), config.tailTolerance());
+        regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+        return regressions.isEmpty() ? 0 : 1;
+    }
+
+    private LoadTestReport run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(config.clients()) / config.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        List<Thread> threads = new ArrayList<>();
+        for (int clientIndex = 0; clientIndex < config.clients(); clientIndex++) {
+            long firstRequest = start + intervalNanos * clientIndex / config.clients();
+            threads.add(startThread("load-client-" + clientIndex, () -> runClient(firstRequest, intervalNanos, measureFrom, end)));
+        }
+        if (!config.upload().equals("none")) {
+            long uploadAt = measureFrom + (end - measureFrom) / 3;
+            threads.add(startThread("load-upload", () -> {
+                LockSupport.parkNanos(uploadAt - System.nanoTime());
+                long started = System.nanoTime();
+                String status = upload(config.upload());
+                stats.get("upload").record(System.nanoTime() - started, "SUCCEEDED".equals(status));
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        double seconds = config.durationSeconds();
+        Map<String, LoadTestReport.EndpointResult> results = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> results.put(endpoint, endpointStats.result(seconds)));
+        return new LoadTestReport(config, results);
+    }
+
+    private void runClient(long firstRequest, long intervalNanos, long measureFrom, long end) {
+        for (long scheduled = firstRequest; scheduled < end; scheduled += intervalNanos) {
+            LockSupport.parkNanos(scheduled - System.nanoTime());
+            boolean measured = scheduled >= measureFrom;
+            int pick = ThreadLocalRandom.current().nextInt(100);
+            if (pick < 40) {
+                send("headquarter", get("/" + SyntheticBankSwiftData.headquarterCode(randomBank())), scheduled, measured);
+            } else if (pick < 70) {
+                send("branch", get("/" + SyntheticBankSwiftData.branchCode(randomBank())), scheduled, measured);
+            } else if (pick < 80) {
+                send("country", get("/country/" + randomCountry()), scheduled, measured);
+            } else if (pick < 90) {
+                send("countryPage", get("/country/" + randomCountry() + "?limit=100"), scheduled, measured);
+            } else {
+                String swiftCode = "LOADTS" + String.format("%5s", Long.toString(createdCodes.incrementAndGet(), 36)).replace(' ', '0').toUpperCase();
+                send("create", HttpRequest.newBuilder(baseUri)
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(branchJson(swiftCode)))
+                        .build(), scheduled, measured);
+                send("delete", HttpRequest.newBuilder(URI.create(baseUri + "/" + swiftCode))
+                        .timeout(REQUEST_TIMEOUT)
+                        .DELETE()
+                        .build(), System.nanoTime(), measured);
+            }
+        }
+    }
+
+    private void send(String endpoint, HttpRequest request, long scheduled, boolean measured) {
+        boolean success;
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            success = status >= 200 && status < 300;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measured) {
+            stats.get(endpoint).record(System.nanoTime() - scheduled, success);
+        }
+    }
+
+    private String upload(String mode) {
+        try {
+            HttpRequest submit = HttpRequest.newBuilder(URI.create(baseUri + (mode.equals("delta") ? "/upload?mode=delta" : "/upload")))
+                    .timeout(REQUEST_TIMEOUT)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            HttpResponse<String> submitted = client.send(submit, HttpResponse.BodyHandlers.ofString());
+            if (submitted.statusCode() != 202) {
+                return "REJECTED";
+            }
+            JsonNode job = OBJECT_MAPPER.readTree(submitted.body());
+            HttpRequest poll = get("/upload/jobs/" + job.path("jobId").asText());
+            while (!job.path("finishedAt").isTextual()) {
+                Thread.sleep(200);
+                job = OBJECT_MAPPER.readTree(client.send(poll, HttpResponse.BodyHandlers.ofString()).body());
+            }
+            return job.path("status").asText();
+        } catch (IOException e) {
+            return "FAILED";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "CANCELLED";
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private int randomBank() {
+        return ThreadLocalRandom.current().nextInt(banks);
+    }
+
+    private static String randomCountry() {
+        return SyntheticBankSwiftData.country(ThreadLocalRandom.current().nextInt(16));
+    }
+
+    private static String branchJson(String swiftCode) {
+        return "{\"address\":\"1 LOAD TEST STREET\",\"bankName\":\"LOAD TEST BANK\",\"countryIS02\":\"PL\","
+                + "\"countryName\":\"POLAND\",\"isHeadquarter\":false,\"swiftCode\":\"" + swiftCode + "\"}";
+    }
+
+    private static Thread startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.swift_code.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadTestConfig(int codes,
+                             int clients,
+                             int rate,
+                             int warmupSeconds,
+                             int durationSeconds,
+                             String upload,
+                             String threads,
+                             int tomcatThreads,
+                             int dbConcurrency,
+                             Path baseline,
+                             double tolerance,
+                             double tailTolerance,
+                             Path result,
+                             boolean updateBaseline) {
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>(Map.ofEntries(
+                Map.entry("codes", "100000"),
+                Map.entry("clients", "16"),
+                Map.entry("rate", "100"),
+                Map.entry("warmup", "10"),
+                Map.entry("duration", "60"),
+                Map.entry("upload", "full"),
+                Map.entry("threads", "platform"),
+                Map.entry("tomcatThreads", "200"),
+                Map.entry("dbConcurrency", "0"),
+                Map.entry("baseline", "src/loadtest/resources/baseline.json"),
+                Map.entry("tolerance", "0.5"),
+                Map.entry("tailTolerance", "2.0"),
+                Map.entry("result", "target/loadtest-result.json"),
+                Map.entry("updateBaseline", "false")));
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0 || !values.containsKey(arg.substring(0, separator))) {
+                throw new IllegalArgumentException("Unknown load test argument: " + arg + ", expected one of " + values.keySet());
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        String upload = values.get("upload");
+        if (!upload.equals("full") && !upload.equals("delta") && !upload.equals("none")) {
+            throw new IllegalArgumentException("upload must be full, delta or none: " + upload);
+        }
+        String threads = values.get("threads");
+        if (!threads.equals("platform") && !threads.equals("virtual")) {
+            throw new IllegalArgumentException("threads must be platform or virtual: " + threads);
+        }
+        if (threads.equals("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalArgumentException("threads=virtual needs Java 21 or newer, running on " + Runtime.version());
+        }
+        return new LoadTestConfig(
+                Integer.parseInt(values.get("codes")),
+                Integer.parseInt(values.get("clients")),
+                Integer.parseInt(values.get("rate")),
+                Integer.parseInt(values.get("warmup")),
+                Integer.parseInt(values.get("duration")),
+                upload,
+                threads,
+                Integer.parseInt(values.get("tomcatThreads")),
+                Integer.parseInt(values.get("dbConcurrency")),
+                Path.of(values.get("baseline")),
+                Double.parseDouble(values.get("tolerance")),
+                Double.parseDouble(values.get("tailTolerance")),
+                Path.of(values.get("result")),
+                Boolean.parseBoolean(values.get("updateBaseline")));
+    }
+}
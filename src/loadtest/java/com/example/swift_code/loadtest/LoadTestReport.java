@@ -0,0 +1,79 @@
+package com.example.swift_code.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public record LoadTestReport(LoadTestConfig config, Map<String, EndpointResult> endpoints) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double MIN_LATENCY_CHANGE_MILLIS = 1.0;
+
+    public record EndpointResult(long count,
+                                 long errors,
+                                 double throughput,
+                                 double p50Millis,
+                                 double p99Millis,
+                                 double p999Millis,
+                                 double maxMillis) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    public static LoadTestReport read(Path path) throws IOException {
+        return OBJECT_MAPPER.readValue(path.toFile(), LoadTestReport.class);
+    }
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+    }
+
+    public List<String> regressions(LoadTestReport baseline, double tolerance, double tailTolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.endpoints().forEach((endpoint, expected) -> {
+            EndpointResult actual = endpoints.get(endpoint);
+            if (actual == null || actual.count() == 0) {
+                regressions.add(endpoint + ": no requests recorded");
+                return;
+            }
+            if (slower(actual.p50Millis(), expected.p50Millis(), tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: p50 %.2f ms, baseline %.2f ms", endpoint, actual.p50Millis(), expected.p50Millis()));
+            }
+            if (slower(actual.p99Millis(), expected.p99Millis(), tailTolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: p99 %.2f ms, baseline %.2f ms", endpoint, actual.p99Millis(), expected.p99Millis()));
+            }
+            if (actual.throughput() < expected.throughput() * (1 - tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: %.1f req/s, baseline %.1f req/s", endpoint, actual.throughput(), expected.throughput()));
+            }
+            if (actual.errorRate() > expected.errorRate()) {
+                regressions.add(String.format(Locale.ROOT, "%s: %d errors in %d requests, baseline %d in %d", endpoint,
+                        actual.errors(), actual.count(), expected.errors(), expected.count()));
+            }
+        });
+        return regressions;
+    }
+
+    private static boolean slower(double actualMillis, double expectedMillis, double tolerance) {
+        return actualMillis > expectedMillis * (1 + tolerance) && actualMillis - expectedMillis > MIN_LATENCY_CHANGE_MILLIS;
+    }
+
+    public String table() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%-14s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((endpoint, result) -> table.append(String.format(Locale.ROOT, "%-14s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, result.count(), result.errors(), result.throughput(), result.p50Millis(), result.p99Millis(),
+                result.p999Millis(), result.maxMillis())));
+        return table.toString();
+    }
+}
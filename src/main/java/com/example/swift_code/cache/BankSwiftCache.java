@@ -0,0 +1,145 @@
+package com.example.swift_code.cache;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class BankSwiftCache implements MeterBinder {
+    private static final String HEADQUARTER_SUFFIX = "XXX";
+
+    private final boolean enabled;
+    private final boolean gzip;
+    private final int gzipMinSize;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, SerializedResponse> codes;
+    private final Cache<String, SerializedResponse> countries;
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    public BankSwiftCache(SwiftProperties properties, ObjectMapper objectMapper) {
+        this(properties, objectMapper, Ticker.systemTicker());
+    }
+
+    BankSwiftCache(SwiftProperties properties, ObjectMapper objectMapper, Ticker ticker) {
+        SwiftProperties.Cache cache = properties.getCache();
+        this.enabled = cache.isEnabled();
+        this.gzip = cache.isGzip();
+        this.gzipMinSize = cache.getGzipMinSize();
+        this.objectMapper = objectMapper;
+        this.codes = newCache(cache, ticker);
+        this.countries = newCache(cache, ticker);
+    }
+
+    private static <V> Cache<String, V> newCache(SwiftProperties.Cache cache, Ticker ticker) {
+        return Caffeine.newBuilder()
+                .maximumSize(cache.getMaximumSize())
+                .expireAfterWrite(cache.getTimeToLive())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    public SerializedResponse getCode(String swiftCode, Function<String, BankSwiftDto> loader) {
+        return get(codes, swiftCode, loader);
+    }
+
+    public SerializedResponse getCountry(String countryIS02, Function<String, CountryBankSwiftDto> loader) {
+        return get(countries, countryIS02, loader);
+    }
+
+    private <T> SerializedResponse get(Cache<String, SerializedResponse> cache, String key, Function<String, T> loader) {
+        if (!enabled) {
+            return serialize(loader.apply(key));
+        }
+        SerializedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedVersion = version.get();
+        SerializedResponse loaded = serialize(loader.apply(key));
+        if (version.get() == loadedVersion) {
+            cache.put(key, loaded);
+            // An invalidation that started before the put may already have evicted this key, so drop it again
+            if (version.get() != loadedVersion) {
+                cache.asMap().remove(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public String etag() {
+        return "\"" + Long.toString(version.get(), Character.MAX_RADIX) + "\"";
+    }
+
+    // The version moves before evicting, so a load that finishes in between sees it and does not cache stale bytes
+    public void invalidate(BankSwift bankSwift) {
+        version.incrementAndGet();
+        String swiftCode = bankSwift.getSwiftCode();
+        codes.invalidate(swiftCode);
+        codes.invalidate(BankSwiftPrefixIndex.baseCode(swiftCode) + HEADQUARTER_SUFFIX);
+        if (bankSwift.getCountryIS02() != null) {
+            countries.invalidate(bankSwift.getCountryIS02());
+        }
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        codes.invalidateAll();
+        countries.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, codes, "codes");
+        CaffeineCacheMetrics.monitor(registry, countries, "countries");
+    }
+
+    public CacheStats codeStats() {
+        return codes.stats();
+    }
+
+    public CacheStats countryStats() {
+        return countries.stats();
+    }
+
+    private SerializedResponse serialize(Object dto) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(dto);
+            return new SerializedResponse(json, gzip && json.length >= gzipMinSize ? compress(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(bytes)) {
+            gzipStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
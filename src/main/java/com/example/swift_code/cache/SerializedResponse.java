@@ -0,0 +1,8 @@
+package com.example.swift_code.cache;
+
+public record SerializedResponse(byte[] json, byte[] gzip) {
+
+    public boolean isGzipped() {
+        return gzip != null;
+    }
+}
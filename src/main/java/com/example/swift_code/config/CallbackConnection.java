@@ -0,0 +1,73 @@
+package com.example.swift_code.config;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+final class CallbackConnection {
+
+    private CallbackConnection() {
+    }
+
+    static Connection onClose(Connection connection, Runnable callback) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return wrap(connection, "close"::equals, () -> {
+            if (closed.compareAndSet(false, true)) {
+                callback.run();
+            }
+        }, true, false);
+    }
+
+    // Auto-commit statements never reach commit(), so every executed statement runs the callback too
+    static Connection onWrite(Connection connection, Runnable callback) {
+        return wrap(connection, name -> name.equals("commit") || name.startsWith("execute"), callback, false, true);
+    }
+
+    private static Connection wrap(Connection connection, Predicate<String> trigger, Runnable callback, boolean always,
+                                   boolean statements) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(), new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> connection;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Callback proxy for " + connection;
+                    default -> {
+                        Object result = invoke(connection, method, args, trigger, callback, always);
+                        yield statements && result instanceof Statement statement
+                                ? wrap(method.getReturnType(), statement, trigger, callback)
+                                : result;
+                    }
+                });
+    }
+
+    private static Object wrap(Class<?> type, Statement statement, Predicate<String> trigger, Runnable callback) {
+        return Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(statement, method, args, trigger, callback, false);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args, Predicate<String> trigger,
+                                 Runnable callback, boolean always) throws Throwable {
+        boolean succeeded = false;
+        try {
+            Object result = method.invoke(target, args);
+            succeeded = true;
+            return result;
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        } finally {
+            if (trigger.test(method.getName()) && (succeeded || always)) {
+                callback.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.swift_code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor routingDataSourcePostProcessor(ObjectProvider<SwiftProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ReadWriteRoutingDataSource
+                        || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                SwiftProperties.Database database = properties.getObject().getDatabase();
+                DataSource primary = database.getMaxConcurrency() > 0
+                        ? new ConcurrencyLimitedDataSource(dataSource, database.getMaxConcurrency(), database.getAcquireTimeout())
+                        : dataSource;
+                SwiftProperties.Database.Replica replica = database.getReplica();
+                if (!StringUtils.hasText(replica.getUrl())) {
+                    return primary;
+                }
+                return new ReadWriteRoutingDataSource(primary, replicaDataSource(replica), replica);
+            }
+        };
+    }
+
+    private static DataSource replicaDataSource(SwiftProperties.Database.Replica replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        return dataSource;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.swift_code.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements MeterBinder, AutoCloseable {
+    private final DataSource primary;
+    private final DataSource replica;
+    private final SwiftProperties.Database.Replica properties;
+    private final ScheduledExecutorService lagChecker;
+    private volatile boolean replicaAvailable;
+    private volatile double replicaLagSeconds = Double.NaN;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, SwiftProperties.Database.Replica properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.properties = properties;
+        setTargetDataSource(new WriteDataSource());
+        setReadOnlyDataSource(new ReadDataSource());
+        afterPropertiesSet();
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "swift-replica-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplica, 0, properties.getCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public boolean isReadingFromReplica() {
+        return replicaAvailable && !ReadYourWrites.readsPrimary();
+    }
+
+    void checkReplica() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+            replicaLagSeconds = lagSeconds;
+            updateAvailability(lagSeconds * 1000 <= properties.getMaxLag().toMillis(), "lag " + lagSeconds + " s");
+        } catch (SQLException | RuntimeException e) {
+            replicaLagSeconds = Double.NaN;
+            updateAvailability(false, e.getMessage());
+        }
+    }
+
+    private void updateAvailability(boolean available, String reason) {
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("Read replica available ({}), routing read-only transactions to it", reason);
+            } else {
+                log.warn("Read replica unavailable ({}), routing read-only transactions to the primary", reason);
+            }
+        }
+        replicaAvailable = available;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("swift.database.replica.available", this, dataSource -> dataSource.replicaAvailable ? 1 : 0)
+                .description("Whether read-only transactions may use the read replica")
+                .register(registry);
+        Gauge.builder("swift.database.replica.lag", this, dataSource -> dataSource.replicaLagSeconds)
+                .description("Replication lag reported by the read replica")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagChecker.shutdownNow();
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private final class WriteDataSource extends DelegatingDataSource {
+        private WriteDataSource() {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return CallbackConnection.onWrite(primary.getConnection(), () -> ReadYourWrites.written(properties.getMaxLag()));
+        }
+    }
+
+    private final class ReadDataSource extends DelegatingDataSource {
+        private ReadDataSource() {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (isReadingFromReplica()) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    updateAvailability(false, e.getMessage());
+                }
+            }
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.swift_code.config;
+
+import java.time.Duration;
+
+// Read-your-writes window of the caller served by the current thread. Threads that serve no caller, such as
+// upload jobs, have none, so their writes never keep anyone else's reads on the primary.
+final class ReadYourWrites {
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private long primaryUntil;
+    private boolean written;
+
+    private ReadYourWrites(long primaryUntil) {
+        this.primaryUntil = primaryUntil;
+    }
+
+    static ReadYourWrites open(long primaryUntil) {
+        ReadYourWrites caller = new ReadYourWrites(primaryUntil);
+        CURRENT.set(caller);
+        return caller;
+    }
+
+    static void written(Duration maxLag) {
+        ReadYourWrites caller = CURRENT.get();
+        if (caller != null) {
+            caller.primaryUntil = System.currentTimeMillis() + maxLag.toMillis();
+            caller.written = true;
+        }
+    }
+
+    static boolean readsPrimary() {
+        ReadYourWrites caller = CURRENT.get();
+        return caller != null && System.currentTimeMillis() < caller.primaryUntil;
+    }
+
+    long primaryUntil() {
+        return primaryUntil;
+    }
+
+    boolean isWritten() {
+        return written;
+    }
+
+    void close() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.swift_code.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// Carries a client's read-your-writes window between its requests in a cookie, so only the client that wrote
+// keeps reading from the primary
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE = "swift-primary-until";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWrites caller = ReadYourWrites.open(primaryUntil(request));
+        CookieResponse cookieResponse = new CookieResponse(response, caller);
+        try {
+            chain.doFilter(request, cookieResponse);
+            cookieResponse.writeCookie();
+        } finally {
+            caller.close();
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // Adds the cookie before the response commits, by which time the request's writes have run
+    private static final class CookieResponse extends HttpServletResponseWrapper {
+        private final ReadYourWrites caller;
+        private boolean added;
+
+        private CookieResponse(HttpServletResponse response, ReadYourWrites caller) {
+            super(response);
+            this.caller = caller;
+        }
+
+        private void writeCookie() {
+            if (added || !caller.isWritten() || isCommitted()) {
+                return;
+            }
+            added = true;
+            Cookie cookie = new Cookie(COOKIE, Long.toString(caller.primaryUntil()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (caller.primaryUntil() - System.currentTimeMillis() + 999) / 1000));
+            addCookie(cookie);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCookie();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCookie();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCookie();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            writeCookie();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            writeCookie();
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeCookie();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.swift_code.config;
+
+import com.example.swift_code.ingest.ImportPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "swift")
+public class SwiftProperties {
+    private final Source source = new Source();
+    private final Ingest ingest = new Ingest();
+    private final Upload upload = new Upload();
+    private final Lookup lookup = new Lookup();
+    private final Bulk bulk = new Bulk();
+    private final Cache cache = new Cache();
+    private final Pagination pagination = new Pagination();
+    private final Search search = new Search();
+    private final Export export = new Export();
+    private final Validation validation = new Validation();
+    private final Directory directory = new Directory();
+    private final Database database = new Database();
+
+    @Data
+    public static class Source {
+        private Resource url;
+    }
+
+    @Data
+    public static class Ingest {
+        private int batchSize = 500;
+        private LoadMode loadMode = LoadMode.JDBC_BATCH;
+        private ImportPolicy importPolicy = ImportPolicy.FAIL_ALL;
+        private int validationParallelism = Runtime.getRuntime().availableProcessors();
+        private int maxReportedViolations = 1000;
+    }
+
+    @Data
+    public static class Upload {
+        private int poolSize = 1;
+        private int queueCapacity = 4;
+        private int retainedJobs = 50;
+    }
+
+    @Data
+    public static class Lookup {
+        private int maxCodes = 50000;
+    }
+
+    @Data
+    public static class Bulk {
+        private int maxItems = 10000;
+        private int chunkSize = 500;
+    }
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 10000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+        private boolean gzip = true;
+        private int gzipMinSize = 1024;
+    }
+
+    @Data
+    public static class Pagination {
+        private int defaultLimit = 100;
+        private int maxLimit = 1000;
+    }
+
+    @Data
+    public static class Search {
+        private boolean includeAddress = true;
+        private int defaultLimit = 20;
+        private int maxLimit = 100;
+    }
+
+    @Data
+    public static class Export {
+        private int fetchSize = 1000;
+    }
+
+    @Data
+    public static class Validation {
+        private ReadMode readMode = ReadMode.NONE;
+        private double sampleRate = 0.01;
+    }
+
+    @Data
+    public static class Directory {
+        private boolean memoryServed = false;
+    }
+
+    @Data
+    public static class Database {
+        private int maxConcurrency = 0;
+        private Duration acquireTimeout = Duration.ofSeconds(5);
+        private final Replica replica = new Replica();
+
+        @Data
+        public static class Replica {
+            private String url;
+            private String username;
+            private String password;
+            private int maximumPoolSize = 10;
+            private Duration connectionTimeout = Duration.ofSeconds(2);
+            private Duration maxLag = Duration.ofSeconds(5);
+            private Duration checkInterval = Duration.ofSeconds(5);
+            private String lagQuery = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+                    + "else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+        }
+    }
+
+    public enum LoadMode {
+        JDBC_BATCH,
+        COPY
+    }
+
+    public enum ReadMode {
+        ALL,
+        SAMPLED,
+        NONE
+    }
+}
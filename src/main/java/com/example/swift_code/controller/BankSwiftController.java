@@ -1,8 +1,23 @@
 package com.example.swift_code.controller;
 
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.cache.SerializedResponse;
 import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.BankSwiftLookupDto;
+import com.example.swift_code.dto.BankSwiftLookupRequestDto;
+import com.example.swift_code.dto.BankSwiftSearchDto;
+import com.example.swift_code.dto.BulkDeleteResultDto;
+import com.example.swift_code.dto.BulkResultDto;
 import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftPageDto;
+import com.example.swift_code.dto.UploadJobDto;
 import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.export.BankSwiftExporter;
+import com.example.swift_code.export.ExportFormat;
+import com.example.swift_code.index.BankSwiftDirectory;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.job.UploadJobService;
+import com.example.swift_code.job.UploadMode;
 import com.example.swift_code.service.BankSwiftService;
 import com.example.swift_code.validationgroups.BankBranch;
 import com.example.swift_code.validationgroups.BankHeadquarter;
@@ -10,12 +25,19 @@ import com.example.swift_code.validationgroups.BankInfoReduced;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
+import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/v1/swift-codes")
@@ -23,7 +45,12 @@ import java.util.Set;
 public class BankSwiftController {
 
     private final BankSwiftService service;
+    private final UploadJobService uploadJobService;
+    private final BankSwiftExporter exporter;
     private final Validator validator;
+    private final ResponseValidator responseValidator;
+    private final BankSwiftDirectory directory;
+    private final BankSwiftCache cache;
 
     @PostMapping
     public ResponseEntity<Map<String, String>> addBankSwift(@RequestBody BankSwiftDto bankSwiftDto) {
@@ -36,6 +63,26 @@ public class BankSwiftController {
         return ResponseEntity.ok(Map.of("message", "SWIFT code data added successfully."));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResultDto> addBankSwifts(@RequestBody List<BankSwiftDto> bankSwiftDtos) {
+        return ResponseEntity.ok(service.addBankSwifts(bankSwiftDtos));
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkDeleteResultDto> deleteBankSwifts(@RequestBody List<String> swiftCodes) {
+        return ResponseEntity.ok(service.deleteBankSwifts(swiftCodes));
+    }
+
+    @DeleteMapping("/bank/{bankBaseCode}")
+    public ResponseEntity<BulkDeleteResultDto> deleteBank(@PathVariable String bankBaseCode) {
+        return ResponseEntity.ok(service.deleteBank(bankBaseCode));
+    }
+
+    @DeleteMapping("/country/{countryIS02}")
+    public ResponseEntity<BulkDeleteResultDto> deleteCountry(@PathVariable String countryIS02) {
+        return ResponseEntity.ok(service.deleteCountry(countryIS02));
+    }
+
     @DeleteMapping("/{swiftCode}")
     public ResponseEntity<Map<String, String>> deleteBankSwift(@PathVariable String swiftCode) {
         service.deleteBankSwift(swiftCode);
@@ -43,33 +90,114 @@ public class BankSwiftController {
     }
 
     @GetMapping("/{swiftCode}")
-    public ResponseEntity<BankSwiftDto> getBankSwift(@PathVariable String swiftCode) {
-        BankSwiftDto bankSwiftDto = service.getBankSwiftDto(swiftCode);
-        if (bankSwiftDto.isHeadquarter()) {
-            validateDto(bankSwiftDto, BankHeadquarter.class);
-        } else {
-            validateDto(bankSwiftDto, BankBranch.class);
-        }
-        return ResponseEntity.ok(bankSwiftDto);
+    public ResponseEntity<byte[]> getBankSwift(@PathVariable String swiftCode, WebRequest request) {
+        String etag = cache.etag();
+        SerializedResponse response = cache.getCode(swiftCode, code -> {
+            BankSwiftDto bankSwiftDto = service.getBankSwiftDto(code);
+            if (bankSwiftDto.isHeadquarter()) {
+                responseValidator.validate(bankSwiftDto, BankHeadquarter.class);
+            } else {
+                responseValidator.validate(bankSwiftDto, BankBranch.class);
+            }
+            return bankSwiftDto;
+        });
+        return serialized(response, etag, request);
     }
 
-    @GetMapping("/country/{countryIS02}")
-    public ResponseEntity<CountryBankSwiftDto> getAllCountryCodes(@PathVariable String countryIS02){
-        CountryBankSwiftDto countryBankSwiftDto = service.getAllCountryCodes(countryIS02);
-        countryBankSwiftDto.getBranches().forEach(branchDto -> validateDto(branchDto, BankInfoReduced.class));
-        return ResponseEntity.ok(countryBankSwiftDto);
+    @PostMapping("/lookup")
+    public ResponseEntity<BankSwiftLookupDto> lookupBankSwifts(@RequestBody BankSwiftLookupRequestDto request) {
+        return ResponseEntity.ok(service.lookupBankSwifts(request));
     }
 
-    private void validateDto(BankSwiftDto bankSwiftDto, Class<?> validationGroup) {
-        Set<ConstraintViolation<BankSwiftDto>> violations = validator.validate(bankSwiftDto, validationGroup);
-        if (!violations.isEmpty()) {
-            throw new BankSwiftValidationException("Invalid SWIFT code DTO format " + validationGroup.getSimpleName(), violations);
+    @GetMapping("/search")
+    public ResponseEntity<BankSwiftSearchDto> searchBankSwifts(@RequestParam("q") String query,
+                                                               @RequestParam(required = false) String country,
+                                                               @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.searchBankSwifts(query, country, limit));
+    }
+
+    @GetMapping(value = "/country/{countryIS02}", params = {"!limit", "!after"})
+    public ResponseEntity<byte[]> getAllCountryCodes(@PathVariable String countryIS02, WebRequest request){
+        String etag = cache.etag();
+        SerializedResponse response = cache.getCountry(countryIS02, country -> {
+            CountryBankSwiftDto countryBankSwiftDto = service.getAllCountryCodes(country);
+            countryBankSwiftDto.getBranches().forEach(branchDto -> responseValidator.validate(branchDto, BankInfoReduced.class));
+            return countryBankSwiftDto;
+        });
+        return serialized(response, etag, request);
+    }
+
+    @GetMapping("/country/{countryIS02}")
+    public ResponseEntity<CountryBankSwiftPageDto> getCountryCodesPage(@PathVariable String countryIS02,
+                                                                       @RequestParam(required = false) Integer limit,
+                                                                       @RequestParam(required = false) String after,
+                                                                       WebRequest request) {
+        String etag = cache.etag();
+        CountryBankSwiftPageDto pageDto = service.getCountryCodesPage(countryIS02, limit, after);
+        pageDto.getBranches().forEach(branchDto -> responseValidator.validate(branchDto, BankInfoReduced.class));
+        if (request.checkNotModified(etag)) {
+            return null;
         }
+        return ResponseEntity.ok(pageDto);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCodes(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(required = false) String country,
+                                                             @RequestParam(defaultValue = "false") boolean headquartersOnly) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        StreamingResponseBody body = directory.isMemoryServed()
+                ? outputStream -> exporter.export(exportFormat, directory.codes().rows(country, headquartersOnly), outputStream)
+                : outputStream -> exporter.export(exportFormat, country, headquartersOnly, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("swift-codes." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @PostMapping("/upload")
-    public ResponseEntity<Map<String, String>> uploadData() throws IOException {
-        service.downloadAndSaveBankSwiftData();
-        return ResponseEntity.ok(Map.of("message", "SWIFT codes uploaded successfully."));
+    public ResponseEntity<UploadJobDto> uploadData(@RequestParam(required = false) ImportPolicy policy) {
+        return accepted(uploadJobService.submit(UploadMode.FULL, policy));
+    }
+
+    @PostMapping(value = "/upload", params = "mode=delta")
+    public ResponseEntity<UploadJobDto> synchronizeData(@RequestParam(required = false) ImportPolicy policy) {
+        return accepted(uploadJobService.submit(UploadMode.DELTA, policy));
+    }
+
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<UploadJobDto> getUploadJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(uploadJobService.getJob(jobId));
+    }
+
+    @DeleteMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<UploadJobDto> cancelUploadJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(uploadJobService.cancel(jobId));
+    }
+
+    // Checked only once the lookup succeeded, so an unknown code or country answers 404 without an ETag
+    private ResponseEntity<byte[]> serialized(SerializedResponse response, String etag, WebRequest request) {
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (!response.isGzipped()) {
+            return builder.body(response.json());
+        }
+        builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    private ResponseEntity<UploadJobDto> accepted(UploadJobDto job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/swift-codes/upload/jobs/" + job.getJobId()))
+                .body(job);
     }
 }
@@ -3,9 +3,19 @@ package com.example.swift_code.controller;
 import com.example.swift_code.exceptions.BankSwiftDuplicateException;
 import com.example.swift_code.exceptions.BankSwiftNotFoundException;
 import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.exceptions.BulkLimitExceededException;
+import com.example.swift_code.exceptions.InvalidExportRequestException;
+import com.example.swift_code.exceptions.InvalidPageRequestException;
+import com.example.swift_code.exceptions.InvalidSearchRequestException;
+import com.example.swift_code.exceptions.LookupLimitExceededException;
 import com.example.swift_code.exceptions.NoCodesFoundException;
+import com.example.swift_code.exceptions.UploadJobNotFoundException;
+import com.example.swift_code.exceptions.UploadJobRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -47,4 +57,46 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, String>> handleNoCodesFoundException(NoCodesFoundException exception) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", exception.getMessage()));
     }
+
+    @ExceptionHandler(UploadJobNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleUploadJobNotFoundException(UploadJobNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", exception.getMessage()));
+    }
+
+    @ExceptionHandler(UploadJobRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleUploadJobRejectedException(UploadJobRejectedException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", exception.getMessage()));
+    }
+
+    @ExceptionHandler(LookupLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleLookupLimitExceededException(LookupLimitExceededException exception) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("message", exception.getMessage()));
+    }
+
+    @ExceptionHandler(BulkLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleBulkLimitExceededException(BulkLimitExceededException exception) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("message", exception.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidPageRequestException(InvalidPageRequestException exception) {
+        return ResponseEntity.badRequest().body(Map.of("message", exception.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidSearchRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidSearchRequestException(InvalidSearchRequestException exception) {
+        return ResponseEntity.badRequest().body(Map.of("message", exception.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidExportRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidExportRequestException(InvalidExportRequestException exception) {
+        return ResponseEntity.badRequest().body(Map.of("message", exception.getMessage()));
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Map<String, String>> handleDatabaseUnavailableException(Exception exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("message", "Database is busy, please retry later."));
+    }
 }
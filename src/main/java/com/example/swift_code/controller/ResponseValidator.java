@@ -0,0 +1,62 @@
+package com.example.swift_code.controller;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.config.SwiftProperties.ReadMode;
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.exceptions.BankSwiftValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+@Slf4j
+@Component
+public class ResponseValidator {
+    private final Validator validator;
+    private final ReadMode readMode;
+    private final double sampleRate;
+    private final DoubleSupplier sampler;
+
+    @Autowired
+    public ResponseValidator(Validator validator, SwiftProperties properties) {
+        this(validator, properties, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    ResponseValidator(Validator validator, SwiftProperties properties, DoubleSupplier sampler) {
+        this.validator = validator;
+        this.readMode = properties.getValidation().getReadMode();
+        this.sampleRate = properties.getValidation().getSampleRate();
+        this.sampler = sampler;
+    }
+
+    public void validate(BankSwiftDto bankSwiftDto, Class<?> validationGroup) {
+        switch (readMode) {
+            case ALL -> {
+                Set<ConstraintViolation<BankSwiftDto>> violations = validator.validate(bankSwiftDto, validationGroup);
+                if (!violations.isEmpty()) {
+                    throw new BankSwiftValidationException("Invalid SWIFT code DTO format " + validationGroup.getSimpleName(), violations);
+                }
+            }
+            case SAMPLED -> {
+                if (sampler.getAsDouble() < sampleRate) {
+                    audit(bankSwiftDto, validationGroup);
+                }
+            }
+            case NONE -> {
+            }
+        }
+    }
+
+    private void audit(BankSwiftDto bankSwiftDto, Class<?> validationGroup) {
+        Set<ConstraintViolation<BankSwiftDto>> violations = validator.validate(bankSwiftDto, validationGroup);
+        if (!violations.isEmpty()) {
+            log.warn("Stored SWIFT code {} violates {}: {}", bankSwiftDto.getSwiftCode(), validationGroup.getSimpleName(),
+                    violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+        }
+    }
+}
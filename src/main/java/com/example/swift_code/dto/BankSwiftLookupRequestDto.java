@@ -0,0 +1,17 @@
+package com.example.swift_code.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankSwiftLookupRequestDto {
+
+    private List<String> swiftCodes;
+
+    private boolean includeBranches;
+}
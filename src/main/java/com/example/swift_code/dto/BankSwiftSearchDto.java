@@ -0,0 +1,17 @@
+package com.example.swift_code.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@JsonPropertyOrder({"query", "matches"})
+public class BankSwiftSearchDto {
+
+    private String query;
+
+    private List<BankSwiftDto> matches;
+}
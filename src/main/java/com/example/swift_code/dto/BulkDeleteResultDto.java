@@ -0,0 +1,17 @@
+package com.example.swift_code.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@JsonPropertyOrder({"deleted", "swiftCodes"})
+public class BulkDeleteResultDto {
+
+    private int deleted;
+
+    private List<String> swiftCodes;
+}
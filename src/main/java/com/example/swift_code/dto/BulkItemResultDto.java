@@ -0,0 +1,22 @@
+package com.example.swift_code.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(Include.NON_NULL)
+@JsonPropertyOrder({"index", "swiftCode", "status", "message"})
+public class BulkItemResultDto {
+
+    private int index;
+
+    private String swiftCode;
+
+    private BulkItemStatus status;
+
+    private String message;
+}
@@ -0,0 +1,7 @@
+package com.example.swift_code.dto;
+
+public enum BulkItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
@@ -0,0 +1,21 @@
+package com.example.swift_code.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@JsonPropertyOrder({"created", "duplicates", "invalid", "results"})
+public class BulkResultDto {
+
+    private int created;
+
+    private int duplicates;
+
+    private int invalid;
+
+    private List<BulkItemResultDto> results;
+}
@@ -0,0 +1,19 @@
+package com.example.swift_code.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonPropertyOrder({"rowNumber", "swiftCode", "column", "message"})
+public class RowViolationDto {
+
+    private long rowNumber;
+
+    private String swiftCode;
+
+    private String column;
+
+    private String message;
+}
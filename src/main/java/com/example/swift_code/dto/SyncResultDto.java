@@ -0,0 +1,27 @@
+package com.example.swift_code.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonPropertyOrder({"message", "notModified", "inserted", "updated", "deleted", "unchanged"})
+public class SyncResultDto {
+
+    private String message;
+
+    private boolean notModified;
+
+    private long inserted;
+
+    private long updated;
+
+    private long deleted;
+
+    private long unchanged;
+
+    public boolean hasChanges() {
+        return inserted + updated + deleted > 0;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.swift_code.dto;
+
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.job.UploadMode;
+import com.example.swift_code.job.UploadStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(Include.NON_NULL)
+@JsonPropertyOrder({"jobId", "mode", "policy", "status", "message", "rowsRead", "rowsValidated", "rowsWritten",
+        "rowsRejected", "rowsPerSecond", "etaSeconds", "submittedAt", "startedAt", "finishedAt", "result", "violations"})
+public class UploadJobDto {
+    private UUID jobId;
+
+    private UploadMode mode;
+
+    private ImportPolicy policy;
+
+    private UploadStatus status;
+
+    private String message;
+
+    private long rowsRead;
+
+    private long rowsValidated;
+
+    private long rowsWritten;
+
+    private long rowsRejected;
+
+    private Double rowsPerSecond;
+
+    private Long etaSeconds;
+
+    private Instant submittedAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private SyncResultDto result;
+
+    private List<RowViolationDto> violations;
+}
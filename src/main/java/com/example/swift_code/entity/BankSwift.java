@@ -1,15 +1,30 @@
 package com.example.swift_code.entity;
 
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 @Entity
-@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_bank_swift_country_code", columnList = "countryIS02, swiftCode"),
+        @Index(name = "idx_bank_swift_bank_base_code", columnList = "bankBaseCode")
+})
 @NoArgsConstructor
 @Data
 public class BankSwift {
@@ -30,4 +45,40 @@ public class BankSwift {
 
     @NotNull(message = "Headquarter flag is mandatory")
     private boolean isHeadquarter;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Long contentHash;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Column(length = 8, nullable = false)
+    private String bankBaseCode;
+
+    public BankSwift(String swiftCode, String countryIS02, String countryName, String bankName, String address, boolean isHeadquarter) {
+        this.swiftCode = swiftCode;
+        this.countryIS02 = countryIS02;
+        this.countryName = countryName;
+        this.bankName = bankName;
+        this.address = address;
+        this.isHeadquarter = isHeadquarter;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void updateDerivedColumns() {
+        contentHash = computeContentHash();
+        bankBaseCode = BankSwiftPrefixIndex.baseCode(swiftCode);
+    }
+
+    public long computeContentHash() {
+        String content = String.join("\u0000", String.valueOf(countryIS02), String.valueOf(countryName),
+                String.valueOf(bankName), String.valueOf(address), String.valueOf(isHeadquarter));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
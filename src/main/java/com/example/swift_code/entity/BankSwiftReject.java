@@ -0,0 +1,39 @@
+package com.example.swift_code.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class BankSwiftReject {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private long rowNumber;
+
+    private String swiftCode;
+
+    private String countryIS02;
+
+    private String countryName;
+
+    private String bankName;
+
+    private String address;
+
+    @Column(length = 4000)
+    private String violations;
+
+    private Instant rejectedAt;
+}
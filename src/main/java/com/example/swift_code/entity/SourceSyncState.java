@@ -0,0 +1,20 @@
+package com.example.swift_code.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class SourceSyncState {
+    @Id
+    private String sourceUrl;
+
+    private String etag;
+
+    private Long lastModified;
+}
@@ -14,6 +14,11 @@ public class BankSwiftValidationException extends RuntimeException {
         setViolationMessage(violations);
     }
 
+    protected BankSwiftValidationException(String message, String violationMessage) {
+        super(message);
+        this.violationMessage = violationMessage;
+    }
+
     private <T> void setViolationMessage(Set<ConstraintViolation<T>> violations) {
         violationMessage = violations.stream()
                 .map(ConstraintViolation::getMessage)
@@ -0,0 +1,7 @@
+package com.example.swift_code.exceptions;
+
+public class BulkLimitExceededException extends RuntimeException {
+    public BulkLimitExceededException(String message) {
+        super(message);
+    }
+}
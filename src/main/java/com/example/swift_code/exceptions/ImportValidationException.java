@@ -0,0 +1,19 @@
+package com.example.swift_code.exceptions;
+
+import com.example.swift_code.dto.RowViolationDto;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+public class ImportValidationException extends BankSwiftValidationException {
+    private final List<RowViolationDto> violations;
+
+    public ImportValidationException(String message, List<RowViolationDto> violations) {
+        super(message, violations.stream()
+                .map(violation -> "Row " + violation.getRowNumber() + " " + violation.getColumn() + ": " + violation.getMessage() + ".")
+                .collect(Collectors.joining(" ")));
+        this.violations = violations;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.swift_code.exceptions;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.swift_code.exceptions;
+
+public class InvalidSearchRequestException extends RuntimeException {
+    public InvalidSearchRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.swift_code.exceptions;
+
+public class LookupLimitExceededException extends RuntimeException {
+    public LookupLimitExceededException(String message) {
+        super(message);
+    }
+}
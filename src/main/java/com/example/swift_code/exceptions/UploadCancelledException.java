@@ -0,0 +1,7 @@
+package com.example.swift_code.exceptions;
+
+public class UploadCancelledException extends RuntimeException {
+    public UploadCancelledException(String message) {
+        super(message);
+    }
+}
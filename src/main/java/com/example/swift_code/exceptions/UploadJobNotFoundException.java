@@ -0,0 +1,7 @@
+package com.example.swift_code.exceptions;
+
+public class UploadJobNotFoundException extends RuntimeException {
+    public UploadJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.swift_code.exceptions;
+
+public class UploadJobRejectedException extends RuntimeException {
+    public UploadJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.swift_code.export;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.mapper.BankSwiftMapper;
+import com.example.swift_code.repository.BankSwiftRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.opencsv.CSVWriter;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+@AllArgsConstructor
+public class BankSwiftExporter {
+    static final String[] CSV_HEADER = {"swiftCode", "countryIS02", "countryName", "bankName", "address", "isHeadquarter"};
+
+    private final BankSwiftRepository repository;
+    private final BankSwiftMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final SwiftProperties properties;
+
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, String countryIS02, boolean headquartersOnly, OutputStream outputStream) throws IOException {
+        try (Stream<BankSwift> rows = repository.streamAll(countryIS02, headquartersOnly, properties.getExport().getFetchSize())) {
+            return write(format, rows.iterator(), outputStream);
+        }
+    }
+
+    public long export(ExportFormat format, Collection<BankSwift> rows, OutputStream outputStream) throws IOException {
+        return write(format, rows.iterator(), outputStream);
+    }
+
+    private long write(ExportFormat format, Iterator<BankSwift> rows, OutputStream outputStream) throws IOException {
+        return format == ExportFormat.CSV ? writeCsv(rows, outputStream) : writeNdjson(rows, outputStream);
+    }
+
+    private long writeNdjson(Iterator<BankSwift> rows, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                writer.writeValue(generator, mapper.toDTOBranch(rows.next()));
+                generator.writeRaw('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private long writeCsv(Iterator<BankSwift> rows, OutputStream outputStream) throws IOException {
+        CSVWriter csvWriter = new CSVWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        csvWriter.writeNext(CSV_HEADER, false);
+        long written = 0;
+        while (rows.hasNext()) {
+            BankSwift bankSwift = rows.next();
+            csvWriter.writeNext(new String[]{bankSwift.getSwiftCode(), bankSwift.getCountryIS02(), bankSwift.getCountryName(),
+                    bankSwift.getBankName(), bankSwift.getAddress(), String.valueOf(bankSwift.isHeadquarter())}, false);
+            if (csvWriter.getException() != null) {
+                throw csvWriter.getException();
+            }
+            written++;
+        }
+        csvWriter.flush();
+        return written;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.swift_code.export;
+
+import com.example.swift_code.exceptions.InvalidExportRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ExportFormat of(String format) {
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new InvalidExportRequestException("Unsupported export format: " + format);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.BankSwift;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class BankNameSearchIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final BankSwiftPrefixIndex prefixIndex;
+    private final SwiftProperties properties;
+
+    private volatile Postings postings = new Postings();
+
+    // Builds under the write lock, so an add or delete that lands meanwhile is applied to the new postings
+    public synchronized void rebuild() {
+        Postings rebuilt = new Postings();
+        boolean includeAddress = properties.getSearch().isIncludeAddress();
+        prefixIndex.all().forEach(bankSwift -> rebuilt.add(new Document(bankSwift, includeAddress)));
+        postings = rebuilt;
+    }
+
+    public synchronized void put(BankSwift bankSwift) {
+        postings.add(new Document(bankSwift, properties.getSearch().isIncludeAddress()));
+    }
+
+    public synchronized void remove(String swiftCode) {
+        postings.remove(swiftCode);
+    }
+
+    public List<BankSwift> search(String query, String countryIS02, int limit) {
+        String normalizedQuery = normalize(query);
+        Set<String> grams = grams(normalizedQuery);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+
+        Postings current = postings;
+        Set<Document> candidates = null;
+        for (String gram : grams) {
+            Set<Document> documents = current.documentsByGram.get(gram);
+            if (documents == null) {
+                return List.of();
+            }
+            if (candidates == null || documents.size() < candidates.size()) {
+                candidates = documents;
+            }
+        }
+
+        String wordQuery = " " + normalizedQuery;
+        PriorityQueue<Match> best = new PriorityQueue<>(limit, Comparator.reverseOrder());
+        for (Document document : candidates) {
+            if ((countryIS02 != null && !countryIS02.equalsIgnoreCase(document.bankSwift.getCountryIS02()))) {
+                continue;
+            }
+            int rank = document.rank(normalizedQuery, wordQuery);
+            if (rank == 0) {
+                continue;
+            }
+            Match match = new Match(rank, document.bankSwift);
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (match.compareTo(best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        Collections.sort(matches);
+        return matches.stream().map(Match::bankSwift).toList();
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= normalized.length(); start++) {
+            grams.add(normalized.substring(start, start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private record Match(int rank, BankSwift bankSwift) implements Comparable<Match> {
+        @Override
+        public int compareTo(Match other) {
+            if (rank != other.rank) {
+                return Integer.compare(other.rank, rank);
+            }
+            if (bankSwift.isHeadquarter() != other.bankSwift.isHeadquarter()) {
+                return bankSwift.isHeadquarter() ? -1 : 1;
+            }
+            int byName = bankSwift.getBankName().compareTo(other.bankSwift.getBankName());
+            return byName != 0 ? byName : bankSwift.getSwiftCode().compareTo(other.bankSwift.getSwiftCode());
+        }
+    }
+
+    private static final class Document {
+        private final BankSwift bankSwift;
+        private final String name;
+        private final String address;
+
+        private Document(BankSwift bankSwift, boolean includeAddress) {
+            this.bankSwift = bankSwift;
+            this.name = normalize(bankSwift.getBankName());
+            this.address = includeAddress ? normalize(bankSwift.getAddress()) : "";
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = BankNameSearchIndex.grams(name);
+            grams.addAll(BankNameSearchIndex.grams(address));
+            return grams;
+        }
+
+        private int rank(String query, String wordQuery) {
+            if (name.startsWith(query)) {
+                return 4;
+            }
+            if (name.contains(wordQuery)) {
+                return 3;
+            }
+            if (name.contains(query)) {
+                return 2;
+            }
+            return address.contains(query) ? 1 : 0;
+        }
+    }
+
+    private static final class Postings {
+        private final Map<String, Set<Document>> documentsByGram = new ConcurrentHashMap<>();
+        private final Map<String, Document> documents = new ConcurrentHashMap<>();
+
+        private void add(Document document) {
+            Document replaced = documents.put(document.bankSwift.getSwiftCode(), document);
+            if (replaced != null) {
+                unlink(replaced);
+            }
+            document.grams().forEach(gram -> documentsByGram.compute(gram, (key, linked) -> {
+                Set<Document> updated = linked != null ? linked : ConcurrentHashMap.newKeySet();
+                updated.add(document);
+                return updated;
+            }));
+        }
+
+        private void remove(String swiftCode) {
+            Document document = documents.remove(swiftCode);
+            if (document != null) {
+                unlink(document);
+            }
+        }
+
+        private void unlink(Document document) {
+            document.grams().forEach(gram -> documentsByGram.computeIfPresent(gram, (key, linked) -> {
+                linked.remove(document);
+                return linked.isEmpty() ? null : linked;
+            }));
+        }
+    }
+}
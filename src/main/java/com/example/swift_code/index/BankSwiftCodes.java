@@ -0,0 +1,158 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.entity.BankSwift;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class BankSwiftCodes {
+    public static final BankSwiftCodes EMPTY = new BankSwiftCodes(BankSwiftSnapshot.EMPTY);
+
+    private final BankSwiftSnapshot base;
+    // Codes added, replaced or removed since the base was built; an empty value marks a removed code
+    private final NavigableMap<String, Optional<BankSwift>> changes;
+    private final Set<String> changedCountries;
+    private final Map<String, List<BankSwift>> mergedCountries = new ConcurrentHashMap<>();
+    private final int size;
+
+    public BankSwiftCodes(BankSwiftSnapshot base) {
+        this(base, Collections.emptyNavigableMap(), Set.of(), base.size());
+    }
+
+    private BankSwiftCodes(BankSwiftSnapshot base, NavigableMap<String, Optional<BankSwift>> changes,
+                           Set<String> changedCountries, int size) {
+        this.base = base;
+        this.changes = changes;
+        this.changedCountries = changedCountries;
+        this.size = size;
+    }
+
+    BankSwiftCodes with(Collection<BankSwift> added, Collection<String> removed) {
+        NavigableMap<String, Optional<BankSwift>> updated = new TreeMap<>(changes);
+        Set<String> countries = new HashSet<>(changedCountries);
+        int updatedSize = size;
+        boolean modified = false;
+        for (String swiftCode : removed) {
+            Optional<BankSwift> current = find(updated, swiftCode);
+            if (current.isPresent()) {
+                countries.add(current.get().getCountryIS02());
+                updatedSize--;
+                modified = true;
+                if (base.find(swiftCode).isPresent()) {
+                    updated.put(swiftCode, Optional.empty());
+                } else {
+                    updated.remove(swiftCode);
+                }
+            }
+        }
+        for (BankSwift bankSwift : added) {
+            Optional<BankSwift> current = find(updated, bankSwift.getSwiftCode());
+            if (current.isPresent() && current.get().equals(bankSwift)) {
+                continue;
+            }
+            current.ifPresent(previous -> countries.add(previous.getCountryIS02()));
+            countries.add(bankSwift.getCountryIS02());
+            updatedSize += current.isPresent() ? 0 : 1;
+            modified = true;
+            updated.put(bankSwift.getSwiftCode(), Optional.of(bankSwift));
+        }
+        return modified ? new BankSwiftCodes(base, Collections.unmodifiableNavigableMap(updated), countries, updatedSize) : this;
+    }
+
+    BankSwiftCodes compact() {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        List<BankSwift> added = new ArrayList<>();
+        changes.values().forEach(change -> change.ifPresent(added::add));
+        return new BankSwiftCodes(base.with(added, changes.keySet()));
+    }
+
+    int changes() {
+        return changes.size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<BankSwift> find(String swiftCode) {
+        return find(changes, swiftCode);
+    }
+
+    private Optional<BankSwift> find(Map<String, Optional<BankSwift>> overlay, String swiftCode) {
+        Optional<BankSwift> change = overlay.get(swiftCode);
+        return change != null ? change : base.find(swiftCode);
+    }
+
+    public List<BankSwift> findBranches(String headquarterCode) {
+        String baseCode = BankSwiftPrefixIndex.baseCode(headquarterCode);
+        SortedMap<String, Optional<BankSwift>> bankChanges = changes.subMap(baseCode, baseCode + Character.MAX_VALUE);
+        if (bankChanges.isEmpty()) {
+            return base.findBranches(headquarterCode);
+        }
+        List<BankSwift> added = new ArrayList<>();
+        bankChanges.values().forEach(change -> change
+                .filter(bankSwift -> !bankSwift.getSwiftCode().equals(headquarterCode))
+                .ifPresent(added::add));
+        return merge(base.findBranches(headquarterCode), added);
+    }
+
+    public List<BankSwift> country(String countryIS02) {
+        if (!changedCountries.contains(countryIS02)) {
+            return base.country(countryIS02);
+        }
+        return mergedCountries.computeIfAbsent(countryIS02, ignored -> {
+            List<BankSwift> added = new ArrayList<>();
+            changes.values().forEach(change -> change
+                    .filter(bankSwift -> countryIS02.equals(bankSwift.getCountryIS02()))
+                    .ifPresent(added::add));
+            return merge(base.country(countryIS02), added);
+        });
+    }
+
+    public List<BankSwift> countryPage(String countryIS02, String after, int limit) {
+        List<BankSwift> country = country(countryIS02);
+        int low = 0;
+        int high = country.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (country.get(middle).getSwiftCode().compareTo(after) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return country.subList(low, Math.min(low + limit, country.size()));
+    }
+
+    public List<BankSwift> all() {
+        if (changes.isEmpty()) {
+            return base.all();
+        }
+        List<BankSwift> added = new ArrayList<>();
+        changes.values().forEach(change -> change.ifPresent(added::add));
+        return merge(base.all(), added);
+    }
+
+    public List<BankSwift> rows(String countryIS02, boolean headquartersOnly) {
+        List<BankSwift> selected = countryIS02 != null ? country(countryIS02) : all();
+        return headquartersOnly ? selected.stream().filter(BankSwift::isHeadquarter).toList() : selected;
+    }
+
+    // Merges base rows, minus changed codes, with the added rows; both are in SWIFT code order
+    private List<BankSwift> merge(List<BankSwift> baseRows, List<BankSwift> added) {
+        List<BankSwift> merged = new ArrayList<>(baseRows.size() + added.size());
+        int next = 0;
+        for (BankSwift bankSwift : baseRows) {
+            while (next < added.size() && added.get(next).getSwiftCode().compareTo(bankSwift.getSwiftCode()) < 0) {
+                merged.add(added.get(next++));
+            }
+            if (!changes.containsKey(bankSwift.getSwiftCode())) {
+                merged.add(bankSwift);
+            }
+        }
+        merged.addAll(added.subList(next, added.size()));
+        return Collections.unmodifiableList(merged);
+    }
+}
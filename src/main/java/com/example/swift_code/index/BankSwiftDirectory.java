@@ -0,0 +1,20 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.config.SwiftProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BankSwiftDirectory {
+    private final BankSwiftPrefixIndex prefixIndex;
+    private final SwiftProperties properties;
+
+    public boolean isMemoryServed() {
+        return properties.getDirectory().isMemoryServed();
+    }
+
+    public BankSwiftCodes codes() {
+        return prefixIndex.codes();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.swift_code.index;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BankSwiftIndexLoader implements SmartInitializingSingleton {
+    private final BankSwiftPrefixIndex prefixIndex;
+    private final BankNameSearchIndex searchIndex;
+
+    // Loads through the proxies once every bean is ready, so the code index is read in its read-write transaction;
+    // a @PostConstruct load ran outside any transaction and could read a lagging replica
+    @Override
+    public void afterSingletonsInstantiated() {
+        prefixIndex.rebuild();
+        searchIndex.rebuild();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.repository.BankSwiftRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class BankSwiftPrefixIndex {
+    private static final int BASE_CODE_LENGTH = 8;
+    static final int COMPACT_THRESHOLD = 1024;
+
+    private final BankSwiftRepository repository;
+
+    private volatile BankSwiftCodes codes = BankSwiftCodes.EMPTY;
+
+    // Read-write so the load reads the primary instead of a lagging replica; only applies when called through the
+    // proxy, as BankSwiftIndexLoader and the uploads do.
+    // Holds the write lock while loading, so an add or delete that lands meanwhile is applied to the new snapshot.
+    @Transactional
+    public synchronized void rebuild() {
+        codes = new BankSwiftCodes(BankSwiftSnapshot.of(repository.findAll()));
+    }
+
+    public void put(BankSwift bankSwift) {
+        putAll(List.of(bankSwift));
+    }
+
+    public synchronized void putAll(Collection<BankSwift> bankSwifts) {
+        publish(codes.with(bankSwifts, List.of()));
+    }
+
+    public void remove(String swiftCode) {
+        removeAll(List.of(swiftCode));
+    }
+
+    public synchronized void removeAll(Collection<String> swiftCodes) {
+        publish(codes.with(List.of(), swiftCodes));
+    }
+
+    // Writes go to a small overlay; the columnar snapshot under it is only rebuilt once the overlay grows
+    private void publish(BankSwiftCodes updated) {
+        codes = updated.changes() >= COMPACT_THRESHOLD ? updated.compact() : updated;
+    }
+
+    public BankSwiftCodes codes() {
+        return codes;
+    }
+
+    public Collection<BankSwift> all() {
+        return codes.all();
+    }
+
+    public Optional<BankSwift> find(String swiftCode) {
+        return codes.find(swiftCode);
+    }
+
+    public List<BankSwift> findBranches(String headquarterCode) {
+        return codes.findBranches(headquarterCode);
+    }
+
+    public static String baseCode(String swiftCode) {
+        return swiftCode.length() > BASE_CODE_LENGTH ? swiftCode.substring(0, BASE_CODE_LENGTH) : swiftCode;
+    }
+}
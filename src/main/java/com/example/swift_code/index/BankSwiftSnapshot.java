@@ -0,0 +1,293 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.entity.BankSwift;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public final class BankSwiftSnapshot {
+    public static final BankSwiftSnapshot EMPTY = new Builder(null, 0).build(new TreeMap<>());
+
+    private final long[] codes;
+    private final int[] countries;
+    private final int[] bankNames;
+    private final byte[] addressBytes;
+    private final int[] addressOffsets;
+    private final BitSet nullAddresses;
+    private final BitSet headquarters;
+    private final String[] countryIS02Values;
+    private final String[] countryNameValues;
+    private final String[] bankNameValues;
+    private final LongIntHashMap positions;
+    private final Map<String, int[]> rowsByCountry;
+    private final NavigableMap<String, BankSwift> unpacked;
+
+    private BankSwiftSnapshot(Builder builder, NavigableMap<String, BankSwift> unpacked) {
+        int size = builder.size;
+        this.codes = Arrays.copyOf(builder.codes, size);
+        this.countries = Arrays.copyOf(builder.countries, size);
+        this.bankNames = Arrays.copyOf(builder.bankNames, size);
+        this.addressBytes = Arrays.copyOf(builder.addressBytes, builder.addressLength);
+        this.addressOffsets = Arrays.copyOf(builder.addressOffsets, size + 1);
+        this.nullAddresses = builder.nullAddresses;
+        this.headquarters = builder.headquarters;
+        this.countryIS02Values = builder.countryIS02Values.toArray(String[]::new);
+        this.countryNameValues = builder.countryNameValues.toArray(String[]::new);
+        this.bankNameValues = builder.bankNameValues.toArray(String[]::new);
+        this.unpacked = Collections.unmodifiableNavigableMap(unpacked);
+
+        this.positions = new LongIntHashMap(size);
+        Map<String, List<Integer>> countryRows = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            positions.put(codes[index], index);
+            countryRows.computeIfAbsent(countryIS02Values[countries[index]], ignored -> new ArrayList<>()).add(index);
+        }
+        Map<String, int[]> rows = new HashMap<>();
+        countryRows.forEach((countryIS02, indexes) -> rows.put(countryIS02, indexes.stream().mapToInt(Integer::intValue).toArray()));
+        this.rowsByCountry = rows;
+    }
+
+    public static BankSwiftSnapshot of(Collection<BankSwift> bankSwifts) {
+        return EMPTY.with(bankSwifts, List.of());
+    }
+
+    public BankSwiftSnapshot with(Collection<BankSwift> added, Collection<String> removed) {
+        if (added.isEmpty() && removed.stream().noneMatch(this::contains)) {
+            return this;
+        }
+
+        NavigableMap<String, BankSwift> remainingUnpacked = new TreeMap<>(unpacked);
+        LongIntHashMap changed = new LongIntHashMap(added.size() + removed.size());
+        for (String swiftCode : removed) {
+            remainingUnpacked.remove(swiftCode);
+            long packed = PackedSwiftCode.encode(swiftCode);
+            if (packed != PackedSwiftCode.INVALID) {
+                changed.put(packed, 0);
+            }
+        }
+        NavigableMap<Long, BankSwift> addedPacked = new TreeMap<>();
+        for (BankSwift bankSwift : added) {
+            long packed = PackedSwiftCode.encode(bankSwift.getSwiftCode());
+            if (packed == PackedSwiftCode.INVALID) {
+                remainingUnpacked.put(bankSwift.getSwiftCode(), bankSwift);
+            } else {
+                changed.put(packed, 0);
+                addedPacked.put(packed, bankSwift);
+            }
+        }
+
+        Builder builder = new Builder(this, codes.length + addedPacked.size());
+        Iterator<Map.Entry<Long, BankSwift>> additions = addedPacked.entrySet().iterator();
+        Map.Entry<Long, BankSwift> next = additions.hasNext() ? additions.next() : null;
+        for (int index = 0; index < codes.length; index++) {
+            while (next != null && next.getKey() < codes[index]) {
+                builder.add(next.getKey(), next.getValue());
+                next = additions.hasNext() ? additions.next() : null;
+            }
+            if (changed.get(codes[index]) == LongIntHashMap.MISSING) {
+                builder.copy(this, index);
+            }
+        }
+        while (next != null) {
+            builder.add(next.getKey(), next.getValue());
+            next = additions.hasNext() ? additions.next() : null;
+        }
+        return builder.build(remainingUnpacked);
+    }
+
+    public int size() {
+        return codes.length + unpacked.size();
+    }
+
+    int dictionarySize() {
+        return countryIS02Values.length + bankNameValues.length;
+    }
+
+    public Optional<BankSwift> find(String swiftCode) {
+        long packed = PackedSwiftCode.encode(swiftCode);
+        if (packed == PackedSwiftCode.INVALID) {
+            return Optional.ofNullable(unpacked.get(swiftCode));
+        }
+        int index = positions.get(packed);
+        return index == LongIntHashMap.MISSING ? Optional.empty() : Optional.of(record(index));
+    }
+
+    private boolean contains(String swiftCode) {
+        long packed = PackedSwiftCode.encode(swiftCode);
+        return packed == PackedSwiftCode.INVALID ? unpacked.containsKey(swiftCode) : positions.get(packed) != LongIntHashMap.MISSING;
+    }
+
+    public List<BankSwift> findBranches(String headquarterCode) {
+        String baseCode = BankSwiftPrefixIndex.baseCode(headquarterCode);
+        List<BankSwift> branches = new ArrayList<>();
+        long start = PackedSwiftCode.encode(baseCode);
+        if (start != PackedSwiftCode.INVALID) {
+            long headquarter = PackedSwiftCode.encode(headquarterCode);
+            for (int index = lowerBound(start), end = lowerBound(PackedSwiftCode.prefixEnd(baseCode)); index < end; index++) {
+                if (codes[index] != headquarter) {
+                    branches.add(record(index));
+                }
+            }
+        }
+        List<BankSwift> unpackedBranches = unpacked.subMap(baseCode, true, baseCode + Character.MAX_VALUE, false)
+                .values()
+                .stream()
+                .filter(bankSwift -> !bankSwift.getSwiftCode().equals(headquarterCode))
+                .toList();
+        return merge(branches, unpackedBranches);
+    }
+
+    public List<BankSwift> country(String countryIS02) {
+        int[] rows = rowsByCountry.get(countryIS02);
+        List<BankSwift> packed = rows != null ? new Rows(rows, rows.length) : List.of();
+        if (unpacked.isEmpty()) {
+            return packed;
+        }
+        return merge(packed, unpacked.values().stream().filter(bankSwift -> countryIS02.equals(bankSwift.getCountryIS02())).toList());
+    }
+
+    public List<BankSwift> all() {
+        return merge(new Rows(null, codes.length), unpacked.values());
+    }
+
+    private int lowerBound(long packed) {
+        int index = Arrays.binarySearch(codes, packed);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private BankSwift record(int index) {
+        int country = countries[index];
+        String address = nullAddresses.get(index) ? null : new String(addressBytes, addressOffsets[index],
+                addressOffsets[index + 1] - addressOffsets[index], StandardCharsets.UTF_8);
+        return new BankSwift(PackedSwiftCode.decode(codes[index]), countryIS02Values[country], countryNameValues[country],
+                bankNameValues[bankNames[index]], address, headquarters.get(index));
+    }
+
+    private static List<BankSwift> merge(List<BankSwift> packed, Collection<BankSwift> unpacked) {
+        if (unpacked.isEmpty()) {
+            return packed;
+        }
+        List<BankSwift> merged = new ArrayList<>(packed);
+        merged.addAll(unpacked);
+        merged.sort(Comparator.comparing(BankSwift::getSwiftCode));
+        return Collections.unmodifiableList(merged);
+    }
+
+    private final class Rows extends AbstractList<BankSwift> implements RandomAccess {
+        private final int[] indexes;
+        private final int size;
+
+        private Rows(int[] indexes, int size) {
+            this.indexes = indexes;
+            this.size = size;
+        }
+
+        @Override
+        public BankSwift get(int position) {
+            Objects.checkIndex(position, size);
+            return record(indexes != null ? indexes[position] : position);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class Builder {
+        private final List<String> countryIS02Values = new ArrayList<>();
+        private final List<String> countryNameValues = new ArrayList<>();
+        private final List<String> bankNameValues = new ArrayList<>();
+        private final int[] countryRemap;
+        private final int[] bankNameRemap;
+        private final Map<String, Integer> countryIds = new HashMap<>();
+        private final Map<String, Integer> bankNameIds = new HashMap<>();
+        private final long[] codes;
+        private final int[] countries;
+        private final int[] bankNames;
+        private final int[] addressOffsets;
+        private final BitSet nullAddresses = new BitSet();
+        private final BitSet headquarters = new BitSet();
+        private byte[] addressBytes;
+        private int addressLength;
+        private int size;
+
+        // Dictionaries start empty and are refilled from the rows kept, so names no longer referenced are dropped
+        private Builder(BankSwiftSnapshot base, int capacity) {
+            this.countryRemap = new int[base != null ? base.countryIS02Values.length : 0];
+            this.bankNameRemap = new int[base != null ? base.bankNameValues.length : 0];
+            Arrays.fill(countryRemap, -1);
+            Arrays.fill(bankNameRemap, -1);
+            this.codes = new long[capacity];
+            this.countries = new int[capacity];
+            this.bankNames = new int[capacity];
+            this.addressOffsets = new int[capacity + 1];
+            this.addressBytes = new byte[base != null ? base.addressBytes.length + 64 * (capacity - base.codes.length) : 0];
+        }
+
+        private void copy(BankSwiftSnapshot source, int index) {
+            int sourceCountry = source.countries[index];
+            if (countryRemap[sourceCountry] < 0) {
+                countryRemap[sourceCountry] = countryId(source.countryIS02Values[sourceCountry], source.countryNameValues[sourceCountry]);
+            }
+            int sourceBankName = source.bankNames[index];
+            if (bankNameRemap[sourceBankName] < 0) {
+                bankNameRemap[sourceBankName] = bankNameId(source.bankNameValues[sourceBankName]);
+            }
+            int from = source.addressOffsets[index];
+            int length = source.addressOffsets[index + 1] - from;
+            append(source.codes[index], countryRemap[sourceCountry], bankNameRemap[sourceBankName],
+                    source.headquarters.get(index), source.nullAddresses.get(index));
+            appendAddress(source.addressBytes, from, length);
+        }
+
+        private void add(long code, BankSwift bankSwift) {
+            String address = bankSwift.getAddress();
+            append(code, countryId(bankSwift.getCountryIS02(), bankSwift.getCountryName()), bankNameId(bankSwift.getBankName()),
+                    bankSwift.isHeadquarter(), address == null);
+            byte[] bytes = address != null ? address.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            appendAddress(bytes, 0, bytes.length);
+        }
+
+        private int countryId(String countryIS02, String countryName) {
+            return countryIds.computeIfAbsent(countryKey(countryIS02, countryName), key -> {
+                countryIS02Values.add(countryIS02);
+                countryNameValues.add(countryName);
+                return countryIS02Values.size() - 1;
+            });
+        }
+
+        private int bankNameId(String bankName) {
+            return bankNameIds.computeIfAbsent(bankName, key -> {
+                bankNameValues.add(key);
+                return bankNameValues.size() - 1;
+            });
+        }
+
+        private void append(long code, int country, int bankName, boolean headquarter, boolean nullAddress) {
+            codes[size] = code;
+            countries[size] = country;
+            bankNames[size] = bankName;
+            headquarters.set(size, headquarter);
+            nullAddresses.set(size, nullAddress);
+            size++;
+        }
+
+        private void appendAddress(byte[] bytes, int from, int length) {
+            if (addressLength + length > addressBytes.length) {
+                addressBytes = Arrays.copyOf(addressBytes, Math.max(addressBytes.length * 2, addressLength + length));
+            }
+            System.arraycopy(bytes, from, addressBytes, addressLength, length);
+            addressLength += length;
+            addressOffsets[size] = addressLength;
+        }
+
+        private BankSwiftSnapshot build(NavigableMap<String, BankSwift> unpacked) {
+            return new BankSwiftSnapshot(this, unpacked);
+        }
+
+        private static String countryKey(String countryIS02, String countryName) {
+            return countryIS02 + '\u0000' + countryName;
+        }
+    }
+}
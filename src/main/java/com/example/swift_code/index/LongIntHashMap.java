@@ -0,0 +1,76 @@
+package com.example.swift_code.index;
+
+import java.util.Arrays;
+
+public final class LongIntHashMap {
+    public static final int MISSING = -1;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(4, expectedSize * 4 / 3) * 2 - 1));
+    }
+
+    public int get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key is reserved: " + key);
+        }
+        if ((size + 1) * 4L > keys.length * 3L) {
+            resize();
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                put(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+}
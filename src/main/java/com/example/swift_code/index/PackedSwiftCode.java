@@ -0,0 +1,72 @@
+package com.example.swift_code.index;
+
+public final class PackedSwiftCode {
+    public static final int MAX_LENGTH = 11;
+    public static final long INVALID = -1L;
+
+    private static final int RADIX = 37;
+    private static final long[] POWERS = new long[MAX_LENGTH + 1];
+
+    static {
+        POWERS[0] = 1;
+        for (int exponent = 1; exponent <= MAX_LENGTH; exponent++) {
+            POWERS[exponent] = POWERS[exponent - 1] * RADIX;
+        }
+    }
+
+    private PackedSwiftCode() {
+    }
+
+    public static long encode(String swiftCode) {
+        if (swiftCode == null || swiftCode.isEmpty() || swiftCode.length() > MAX_LENGTH) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int position = 0; position < MAX_LENGTH; position++) {
+            int digit = 0;
+            if (position < swiftCode.length()) {
+                digit = digit(swiftCode.charAt(position));
+                if (digit == 0) {
+                    return INVALID;
+                }
+            }
+            packed = packed * RADIX + digit;
+        }
+        return packed;
+    }
+
+    public static String decode(long packed) {
+        if (packed <= 0 || packed >= POWERS[MAX_LENGTH]) {
+            throw new IllegalArgumentException("Not a packed SWIFT code: " + packed);
+        }
+        char[] chars = new char[MAX_LENGTH];
+        int length = 0;
+        for (int position = 0; position < MAX_LENGTH; position++) {
+            int digit = (int) (packed / POWERS[MAX_LENGTH - 1 - position] % RADIX);
+            if (digit == 0) {
+                break;
+            }
+            chars[length++] = symbol(digit);
+        }
+        return new String(chars, 0, length);
+    }
+
+    public static long prefixEnd(String prefix) {
+        long start = encode(prefix);
+        return start == INVALID ? INVALID : start + POWERS[MAX_LENGTH - prefix.length()];
+    }
+
+    private static int digit(char symbol) {
+        if (symbol >= '0' && symbol <= '9') {
+            return symbol - '0' + 1;
+        }
+        if (symbol >= 'A' && symbol <= 'Z') {
+            return symbol - 'A' + 11;
+        }
+        return 0;
+    }
+
+    private static char symbol(int digit) {
+        return (char) (digit <= 10 ? '0' + digit - 1 : 'A' + digit - 11);
+    }
+}
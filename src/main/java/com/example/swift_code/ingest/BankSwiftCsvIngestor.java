@@ -0,0 +1,215 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.RowViolationDto;
+import com.example.swift_code.dto.SyncResultDto;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.BankSwiftReject;
+import com.example.swift_code.exceptions.ImportValidationException;
+import com.example.swift_code.ingest.IngestRow.Change;
+import com.example.swift_code.repository.BankSwiftFingerprint;
+import com.example.swift_code.repository.BankSwiftRepository;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+public class BankSwiftCsvIngestor {
+    private final BankSwiftRepository repository;
+    private final BankSwiftLoaderFactory loaderFactory;
+    private final ParallelRowValidator validator;
+    private final SwiftProperties properties;
+    private final IngestMetrics metrics;
+
+    @Transactional
+    public long ingest(InputStream inputStream, ImportPolicy policy, IngestProgress progress) {
+        BatchWriter writer = new BatchWriter(loaderFactory.open(), policy, progress);
+        writer.run(() -> readRows(inputStream, progress, (rowNumber, bankSwift) ->
+                writer.add(new IngestRow(rowNumber, bankSwift, Change.NONE))));
+        return writer.written;
+    }
+
+    @Transactional
+    public SyncResultDto synchronize(InputStream inputStream, ImportPolicy policy, IngestProgress progress) {
+        Map<String, Long> stored = new HashMap<>();
+        for (BankSwiftFingerprint fingerprint : repository.findAllFingerprints()) {
+            stored.put(fingerprint.getSwiftCode(), fingerprint.getContentHash());
+        }
+        Set<String> seen = new HashSet<>();
+
+        BatchWriter writer = new BatchWriter(loaderFactory.open(), policy, progress);
+        writer.run(() -> readRows(inputStream, progress, (rowNumber, bankSwift) -> {
+            String swiftCode = bankSwift.getSwiftCode();
+            if (!seen.add(swiftCode)) {
+                writer.add(new IngestRow(rowNumber, bankSwift, Change.NONE));
+            } else if (!stored.containsKey(swiftCode)) {
+                writer.add(new IngestRow(rowNumber, bankSwift, Change.INSERT));
+            } else if (!Long.valueOf(bankSwift.computeContentHash()).equals(stored.get(swiftCode))) {
+                writer.add(new IngestRow(rowNumber, bankSwift, Change.UPDATE));
+            } else {
+                writer.unchanged++;
+            }
+        }));
+
+        List<String> removed = stored.keySet().stream().filter(swiftCode -> !seen.contains(swiftCode)).toList();
+        int batchSize = properties.getIngest().getBatchSize();
+        for (int from = 0; from < removed.size(); from += batchSize) {
+            repository.deleteAllByIdInBatch(removed.subList(from, Math.min(from + batchSize, removed.size())));
+        }
+
+        return new SyncResultDto("SWIFT codes synchronized successfully.", false,
+                writer.inserted, writer.updated, removed.size(), writer.unchanged);
+    }
+
+    private void readRows(InputStream inputStream, IngestProgress progress, RowConsumer consumer) {
+        try (CSVReader csvReader = new CSVReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            csvReader.skip(1);
+            long rowNumber = 1;
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                progress.checkCancelled();
+                progress.rowRead();
+                metrics.rowParsed();
+                consumer.accept(++rowNumber, mapToEntity(row));
+            }
+        } catch (IOException | CsvValidationException e) {
+            throw new RuntimeException("Error parsing CSV file", e);
+        }
+    }
+
+    private BankSwift mapToEntity(String[] row){
+        BankSwift bankSwift = new BankSwift();
+        bankSwift.setCountryIS02(row[0]);
+        bankSwift.setSwiftCode(row[1]);
+        bankSwift.setBankName(row[3]);
+        bankSwift.setAddress(row[4]);
+        bankSwift.setCountryName(row[6]);
+        bankSwift.setHeadquarter(bankSwift.getSwiftCode().endsWith("XXX"));
+        return bankSwift;
+    }
+
+    private static BankSwiftReject toReject(IngestRow row, List<RowViolationDto> violations, Instant rejectedAt) {
+        BankSwift bankSwift = row.getBankSwift();
+        String messages = violations.stream()
+                .map(violation -> violation.getColumn() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+        return new BankSwiftReject(null, row.getRowNumber(), bankSwift.getSwiftCode(), bankSwift.getCountryIS02(),
+                bankSwift.getCountryName(), bankSwift.getBankName(), bankSwift.getAddress(), messages, rejectedAt);
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(long rowNumber, BankSwift bankSwift);
+    }
+
+    private final class BatchWriter {
+        private final BankSwiftLoader loader;
+        private final ImportPolicy policy;
+        private final IngestProgress progress;
+        private final int batchSize = properties.getIngest().getBatchSize();
+        private final int maxReportedViolations = properties.getIngest().getMaxReportedViolations();
+        private final List<RowViolationDto> violations = new ArrayList<>();
+        private List<IngestRow> batch = new ArrayList<>(batchSize);
+        private long rejected;
+        private long written;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+
+        private BatchWriter(BankSwiftLoader loader, ImportPolicy policy, IngestProgress progress) {
+            this.loader = loader;
+            this.policy = policy;
+            this.progress = progress;
+        }
+
+        private void add(IngestRow row) {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Map<Long, List<RowViolationDto>> invalidRows = metrics.validate(() -> validator.validate(batch)).stream()
+                    .collect(Collectors.groupingBy(RowViolationDto::getRowNumber));
+
+            List<BankSwift> valid = new ArrayList<>(batch.size());
+            List<BankSwiftReject> rejects = new ArrayList<>();
+            Instant rejectedAt = Instant.now();
+            for (IngestRow row : batch) {
+                List<RowViolationDto> rowViolations = invalidRows.get(row.getRowNumber());
+                if (rowViolations == null) {
+                    valid.add(row.getBankSwift());
+                    progress.rowValidated();
+                    if (row.getChange() == Change.INSERT) {
+                        inserted++;
+                    } else if (row.getChange() == Change.UPDATE) {
+                        updated++;
+                    }
+                } else {
+                    report(rowViolations);
+                    if (policy == ImportPolicy.QUARANTINE_INVALID) {
+                        rejects.add(toReject(row, rowViolations, rejectedAt));
+                    }
+                }
+            }
+            batch = new ArrayList<>(batchSize);
+            metrics.rowsValidated(valid.size());
+
+            if (policy == ImportPolicy.FAIL_ALL && rejected > 0) {
+                return;
+            }
+            if (!valid.isEmpty()) {
+                metrics.load(() -> loader.load(valid));
+                written += valid.size();
+                progress.rowsWritten(valid.size());
+                metrics.rowsWritten(valid.size());
+            }
+            if (!rejects.isEmpty()) {
+                metrics.reject(() -> loader.reject(rejects));
+            }
+        }
+
+        private void report(List<RowViolationDto> rowViolations) {
+            rejected++;
+            rowViolations.stream()
+                    .limit(Math.max(maxReportedViolations - violations.size(), 0))
+                    .forEach(violations::add);
+            progress.rowsRejected(1, rowViolations, maxReportedViolations);
+            metrics.rowsRejected(1);
+        }
+
+        private void run(Runnable rows) {
+            try {
+                rows.run();
+                flush();
+                if (policy == ImportPolicy.FAIL_ALL && rejected > 0) {
+                    throw new ImportValidationException("Invalid SWIFT code format in " + rejected + " rows", violations);
+                }
+                loader.finish();
+            } catch (RuntimeException e) {
+                loader.abort();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.BankSwiftReject;
+
+import java.util.List;
+
+public interface BankSwiftLoader {
+    void load(List<BankSwift> batch);
+
+    void reject(List<BankSwiftReject> rejects);
+
+    void finish();
+
+    default void abort() {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.config.SwiftProperties.LoadMode;
+import com.example.swift_code.repository.BankSwiftRejectRepository;
+import com.example.swift_code.repository.BankSwiftRepository;
+import lombok.AllArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+@Component
+@AllArgsConstructor
+public class BankSwiftLoaderFactory {
+    private final BankSwiftRepository repository;
+    private final BankSwiftRejectRepository rejectRepository;
+    private final DataSource dataSource;
+    private final SwiftProperties properties;
+
+    public BankSwiftLoader open() {
+        if (properties.getIngest().getLoadMode() == LoadMode.COPY) {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            if (supportsCopy(connection)) {
+                return new PostgresCopyLoader(connection);
+            }
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        return new JdbcBatchLoader(repository, rejectRepository);
+    }
+
+    private boolean supportsCopy(Connection connection) {
+        try {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Inspecting JDBC connection", null, e);
+        }
+    }
+}
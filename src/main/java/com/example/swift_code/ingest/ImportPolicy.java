@@ -0,0 +1,7 @@
+package com.example.swift_code.ingest;
+
+public enum ImportPolicy {
+    FAIL_ALL,
+    SKIP_INVALID,
+    QUARANTINE_INVALID
+}
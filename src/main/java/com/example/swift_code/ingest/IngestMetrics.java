@@ -0,0 +1,72 @@
+package com.example.swift_code.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class IngestMetrics {
+    private final Counter rowsParsed;
+    private final Counter rowsValidated;
+    private final Counter rowsWritten;
+    private final Counter rowsRejected;
+    private final Timer validation;
+    private final Timer load;
+    private final Timer reject;
+
+    public IngestMetrics(MeterRegistry registry) {
+        this.rowsParsed = rows(registry, "parsed");
+        this.rowsValidated = rows(registry, "validated");
+        this.rowsWritten = rows(registry, "written");
+        this.rowsRejected = rows(registry, "rejected");
+        this.validation = batch(registry, "validate");
+        this.load = batch(registry, "load");
+        this.reject = batch(registry, "reject");
+    }
+
+    private static Counter rows(MeterRegistry registry, String stage) {
+        return Counter.builder("swift.ingest.rows")
+                .description("CSV rows processed by ingestion stage")
+                .tag("stage", stage)
+                .register(registry);
+    }
+
+    private static Timer batch(MeterRegistry registry, String phase) {
+        return Timer.builder("swift.ingest.batch")
+                .description("Time spent on one ingestion batch")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void rowParsed() {
+        rowsParsed.increment();
+    }
+
+    public void rowsValidated(int rows) {
+        rowsValidated.increment(rows);
+    }
+
+    public void rowsWritten(int rows) {
+        rowsWritten.increment(rows);
+    }
+
+    public void rowsRejected(int rows) {
+        rowsRejected.increment(rows);
+    }
+
+    public <T> T validate(Supplier<T> validation) {
+        return this.validation.record(validation);
+    }
+
+    public void load(Runnable load) {
+        this.load.record(load);
+    }
+
+    public void reject(Runnable reject) {
+        this.reject.record(reject);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.dto.RowViolationDto;
+import com.example.swift_code.exceptions.UploadCancelledException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class IngestProgress {
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsValidated = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final List<RowViolationDto> violations = new ArrayList<>();
+    private volatile long totalBytes = -1;
+    private volatile boolean cancelled;
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowValidated() {
+        rowsValidated.incrementAndGet();
+    }
+
+    public void rowsWritten(int rows) {
+        rowsWritten.addAndGet(rows);
+    }
+
+    public synchronized void rowsRejected(int rows, List<RowViolationDto> rowViolations, int maxReported) {
+        rowsRejected.addAndGet(rows);
+        rowViolations.stream()
+                .limit(Math.max(maxReported - violations.size(), 0))
+                .forEach(violations::add);
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getRowsValidated() {
+        return rowsValidated.get();
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.get();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.get();
+    }
+
+    public synchronized List<RowViolationDto> getViolations() {
+        return List.copyOf(violations);
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void checkCancelled() {
+        if (cancelled) {
+            throw new UploadCancelledException("Upload job cancelled.");
+        }
+    }
+
+    public InputStream track(InputStream inputStream, long totalBytes) {
+        this.totalBytes = totalBytes;
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) {
+                    bytesRead.incrementAndGet();
+                }
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int count = super.read(buffer, offset, length);
+                if (count > 0) {
+                    bytesRead.addAndGet(count);
+                }
+                return count;
+            }
+        };
+    }
+}
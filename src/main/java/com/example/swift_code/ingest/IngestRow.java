@@ -0,0 +1,19 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.entity.BankSwift;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IngestRow {
+    private final long rowNumber;
+    private final BankSwift bankSwift;
+    private final Change change;
+
+    public enum Change {
+        INSERT,
+        UPDATE,
+        NONE
+    }
+}
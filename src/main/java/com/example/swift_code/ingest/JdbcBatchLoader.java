@@ -0,0 +1,29 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.BankSwiftReject;
+import com.example.swift_code.repository.BankSwiftRejectRepository;
+import com.example.swift_code.repository.BankSwiftRepository;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+public class JdbcBatchLoader implements BankSwiftLoader {
+    private final BankSwiftRepository repository;
+    private final BankSwiftRejectRepository rejectRepository;
+
+    @Override
+    public void load(List<BankSwift> batch) {
+        repository.upsertBatch(batch);
+    }
+
+    @Override
+    public void reject(List<BankSwiftReject> rejects) {
+        rejectRepository.saveAll(rejects);
+    }
+
+    @Override
+    public void finish() {
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.RowViolationDto;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.exceptions.UploadCancelledException;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+@Component
+public class ParallelRowValidator {
+    private static final Map<String, String> CSV_COLUMNS = Map.of(
+            "countryIS02", "COUNTRY ISO2 CODE",
+            "swiftCode", "SWIFT CODE",
+            "bankName", "NAME",
+            "address", "ADDRESS",
+            "countryName", "COUNTRY NAME");
+
+    private final Validator validator;
+    private final ForkJoinPool pool;
+
+    public ParallelRowValidator(Validator validator, SwiftProperties properties) {
+        this.validator = validator;
+        this.pool = new ForkJoinPool(Math.max(properties.getIngest().getValidationParallelism(), 1));
+    }
+
+    public List<RowViolationDto> validate(List<IngestRow> rows) {
+        try {
+            return pool.submit(() -> rows.parallelStream().flatMap(this::validate).toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadCancelledException("Upload job cancelled.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Stream<RowViolationDto> validate(IngestRow row) {
+        BankSwift bankSwift = row.getBankSwift();
+        return validator.validate(bankSwift).stream()
+                .map(violation -> new RowViolationDto(row.getRowNumber(), bankSwift.getSwiftCode(), column(violation), violation.getMessage()))
+                .sorted(Comparator.comparing(RowViolationDto::getColumn));
+    }
+
+    private String column(ConstraintViolation<BankSwift> violation) {
+        String property = String.valueOf(violation.getPropertyPath());
+        return CSV_COLUMNS.getOrDefault(property, property);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.BankSwiftReject;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PostgresCopyLoader implements BankSwiftLoader {
+    static final String CREATE_STAGING = "CREATE TEMP TABLE IF NOT EXISTS bank_swift_staging ("
+            + "row_no bigserial, swift_code varchar(255), countryis02 varchar(255), country_name varchar(255), "
+            + "bank_name varchar(255), address varchar(255), is_headquarter boolean, content_hash bigint, "
+            + "bank_base_code varchar(8)) ON COMMIT DROP";
+    static final String COPY = "COPY bank_swift_staging "
+            + "(swift_code, countryis02, country_name, bank_name, address, is_headquarter, content_hash, bank_base_code) "
+            + "FROM STDIN WITH (FORMAT csv)";
+    static final String MERGE = "INSERT INTO bank_swift "
+            + "(swift_code, countryis02, country_name, bank_name, address, is_headquarter, content_hash, bank_base_code) "
+            + "SELECT DISTINCT ON (swift_code) swift_code, countryis02, country_name, bank_name, address, is_headquarter, "
+            + "content_hash, bank_base_code "
+            + "FROM bank_swift_staging ORDER BY swift_code, row_no DESC "
+            + "ON CONFLICT (swift_code) DO UPDATE SET countryis02 = EXCLUDED.countryis02, "
+            + "country_name = EXCLUDED.country_name, bank_name = EXCLUDED.bank_name, "
+            + "address = EXCLUDED.address, is_headquarter = EXCLUDED.is_headquarter, content_hash = EXCLUDED.content_hash, "
+            + "bank_base_code = EXCLUDED.bank_base_code";
+    static final String INSERT_REJECT = "INSERT INTO bank_swift_reject "
+            + "(row_number, swift_code, countryis02, country_name, bank_name, address, violations, rejected_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final Connection connection;
+    private final CopyIn copyIn;
+    private final List<BankSwiftReject> rejects = new ArrayList<>();
+
+    public PostgresCopyLoader(Connection connection) {
+        this.connection = connection;
+        try {
+            execute(CREATE_STAGING);
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Opening COPY into bank_swift_staging", COPY, e);
+        }
+    }
+
+    @Override
+    public void load(List<BankSwift> batch) {
+        StringBuilder lines = new StringBuilder(batch.size() * 128);
+        batch.forEach(bankSwift -> appendCsvLine(lines, bankSwift));
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Writing COPY batch", COPY, e);
+        }
+    }
+
+    @Override
+    public void reject(List<BankSwiftReject> rejects) {
+        this.rejects.addAll(rejects);
+    }
+
+    @Override
+    public void finish() {
+        try {
+            copyIn.endCopy();
+            execute(MERGE);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Merging bank_swift_staging", MERGE, e);
+        }
+        if (!rejects.isEmpty()) {
+            insertRejects();
+        }
+    }
+
+    private void insertRejects() {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_REJECT)) {
+            for (BankSwiftReject reject : rejects) {
+                statement.setLong(1, reject.getRowNumber());
+                statement.setString(2, reject.getSwiftCode());
+                statement.setString(3, reject.getCountryIS02());
+                statement.setString(4, reject.getCountryName());
+                statement.setString(5, reject.getBankName());
+                statement.setString(6, reject.getAddress());
+                statement.setString(7, reject.getViolations());
+                statement.setTimestamp(8, Timestamp.from(reject.getRejectedAt()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("Inserting bank_swift_reject rows", INSERT_REJECT, e);
+        }
+    }
+
+    @Override
+    public void abort() {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException ignored) {
+            // the surrounding transaction is rolled back anyway
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    static void appendCsvLine(StringBuilder lines, BankSwift bankSwift) {
+        appendField(lines, bankSwift.getSwiftCode()).append(',');
+        appendField(lines, bankSwift.getCountryIS02()).append(',');
+        appendField(lines, bankSwift.getCountryName()).append(',');
+        appendField(lines, bankSwift.getBankName()).append(',');
+        appendField(lines, bankSwift.getAddress()).append(',');
+        lines.append(bankSwift.isHeadquarter()).append(',');
+        lines.append(bankSwift.computeContentHash()).append(',');
+        appendField(lines, BankSwiftPrefixIndex.baseCode(bankSwift.getSwiftCode())).append('\n');
+    }
+
+    private static StringBuilder appendField(StringBuilder lines, String value) {
+        if (value == null) {
+            return lines;
+        }
+        return lines.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
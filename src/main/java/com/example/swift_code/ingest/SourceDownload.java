@@ -0,0 +1,23 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.entity.SourceSyncState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.InputStream;
+
+@Getter
+@AllArgsConstructor
+public class SourceDownload {
+    private final InputStream inputStream;
+    private final long contentLength;
+    private final SourceSyncState state;
+
+    public static SourceDownload notModified(SourceSyncState state) {
+        return new SourceDownload(null, -1, state);
+    }
+
+    public boolean isNotModified() {
+        return inputStream == null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.SourceSyncState;
+import com.example.swift_code.repository.SourceSyncStateRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+@Component
+@AllArgsConstructor
+public class SwiftSourceClient {
+    private final SwiftProperties properties;
+    private final SourceSyncStateRepository stateRepository;
+
+    public SourceDownload download() throws IOException {
+        return fetch(true);
+    }
+
+    public SourceDownload open() throws IOException {
+        return fetch(false);
+    }
+
+    private SourceDownload fetch(boolean conditional) throws IOException {
+        Resource source = properties.getSource().getUrl();
+        URL url = source.getURL();
+        SourceSyncState state = conditional
+                ? stateRepository.findById(url.toString()).orElseGet(() -> new SourceSyncState(url.toString(), null, null))
+                : new SourceSyncState(url.toString(), null, null);
+
+        URLConnection connection = url.openConnection();
+        if (connection instanceof HttpURLConnection httpConnection) {
+            return downloadHttp(httpConnection, state);
+        }
+
+        long lastModified = source.lastModified();
+        if (state.getLastModified() != null && state.getLastModified() == lastModified) {
+            return SourceDownload.notModified(state);
+        }
+        return new SourceDownload(connection.getInputStream(), connection.getContentLengthLong(),
+                new SourceSyncState(state.getSourceUrl(), null, lastModified));
+    }
+
+    private SourceDownload downloadHttp(HttpURLConnection connection, SourceSyncState state) throws IOException {
+        if (state.getEtag() != null) {
+            connection.setRequestProperty("If-None-Match", state.getEtag());
+        }
+        if (state.getLastModified() != null) {
+            connection.setIfModifiedSince(state.getLastModified());
+        }
+
+        int status = connection.getResponseCode();
+        if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            connection.disconnect();
+            return SourceDownload.notModified(state);
+        }
+        if (status != HttpURLConnection.HTTP_OK) {
+            connection.disconnect();
+            throw new IOException("Unexpected response " + status + " from SWIFT codes source " + state.getSourceUrl());
+        }
+
+        long lastModified = connection.getLastModified();
+        SourceSyncState newState = new SourceSyncState(state.getSourceUrl(), connection.getHeaderField("ETag"),
+                lastModified == 0 ? null : lastModified);
+        return new SourceDownload(connection.getInputStream(), connection.getContentLengthLong(), newState);
+    }
+
+    public void markSynchronized(SourceSyncState state) {
+        stateRepository.save(state);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.swift_code.job;
+
+import com.example.swift_code.dto.SyncResultDto;
+import com.example.swift_code.dto.UploadJobDto;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.ingest.IngestProgress;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+@Getter
+public class UploadJob {
+    private final UUID id = UUID.randomUUID();
+    private final UploadMode mode;
+    private final ImportPolicy policy;
+    private final IngestProgress progress = new IngestProgress();
+    private final Clock clock;
+    private final Instant submittedAt;
+    private volatile UploadStatus status = UploadStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String message;
+    private volatile SyncResultDto result;
+    private volatile Future<?> future;
+
+    public UploadJob(UploadMode mode, ImportPolicy policy, Clock clock) {
+        this.mode = mode;
+        this.policy = policy;
+        this.clock = clock;
+        this.submittedAt = clock.instant();
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    synchronized boolean start() {
+        if (status != UploadStatus.QUEUED) {
+            return false;
+        }
+        status = UploadStatus.RUNNING;
+        startedAt = clock.instant();
+        return true;
+    }
+
+    synchronized void finish(UploadStatus status, String message, SyncResultDto result) {
+        this.status = status;
+        this.message = message;
+        this.result = result;
+        this.finishedAt = clock.instant();
+    }
+
+    synchronized void cancel() {
+        if (status == UploadStatus.QUEUED) {
+            if (future != null) {
+                future.cancel(false);
+            }
+            finish(UploadStatus.CANCELLED, "Upload job cancelled.", null);
+        } else if (status == UploadStatus.RUNNING) {
+            progress.cancel();
+        }
+    }
+
+    public UploadJobDto toDto() {
+        UploadJobDto dto = new UploadJobDto();
+        dto.setJobId(id);
+        dto.setMode(mode);
+        dto.setPolicy(policy);
+        dto.setStatus(status);
+        dto.setMessage(message);
+        dto.setRowsRead(progress.getRowsRead());
+        dto.setRowsValidated(progress.getRowsValidated());
+        dto.setRowsWritten(progress.getRowsWritten());
+        dto.setRowsRejected(progress.getRowsRejected());
+        if (progress.getRowsRejected() > 0) {
+            dto.setViolations(progress.getViolations());
+        }
+        dto.setSubmittedAt(submittedAt);
+        dto.setStartedAt(startedAt);
+        dto.setFinishedAt(finishedAt);
+        dto.setResult(result);
+
+        if (startedAt != null) {
+            Instant end = finishedAt != null ? finishedAt : clock.instant();
+            double seconds = Math.max(Duration.between(startedAt, end).toMillis(), 1) / 1000.0;
+            dto.setRowsPerSecond(progress.getRowsRead() / seconds);
+            if (finishedAt == null && progress.getTotalBytes() > 0 && progress.getBytesRead() > 0) {
+                double bytesPerSecond = progress.getBytesRead() / seconds;
+                long remainingBytes = Math.max(progress.getTotalBytes() - progress.getBytesRead(), 0);
+                dto.setEtaSeconds(Math.round(remainingBytes / bytesPerSecond));
+            }
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.swift_code.job;
+
+import com.example.swift_code.config.SwiftProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Future;
+
+@Component
+public class UploadJobExecutor implements MeterBinder {
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    public UploadJobExecutor(SwiftProperties properties, Environment environment) {
+        SwiftProperties.Upload upload = properties.getUpload();
+        executor.setCorePoolSize(upload.getPoolSize());
+        executor.setMaxPoolSize(upload.getPoolSize());
+        executor.setQueueCapacity(upload.getQueueCapacity());
+        executor.setThreadNamePrefix("swift-upload-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.initialize();
+    }
+
+    public Future<?> submit(Runnable task) {
+        return executor.submit(task);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "swift.upload", Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
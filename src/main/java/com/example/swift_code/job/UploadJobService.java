@@ -0,0 +1,98 @@
+package com.example.swift_code.job;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.SyncResultDto;
+import com.example.swift_code.dto.UploadJobDto;
+import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.exceptions.ImportValidationException;
+import com.example.swift_code.exceptions.UploadCancelledException;
+import com.example.swift_code.exceptions.UploadJobNotFoundException;
+import com.example.swift_code.exceptions.UploadJobRejectedException;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.service.BankSwiftService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class UploadJobService {
+    private final BankSwiftService service;
+    private final UploadJobExecutor executor;
+    private final SwiftProperties properties;
+    private final Clock clock = Clock.systemUTC();
+    private final Map<UUID, UploadJob> jobs = new ConcurrentHashMap<>();
+
+    public UploadJobDto submit(UploadMode mode, ImportPolicy policy) {
+        ImportPolicy importPolicy = policy != null ? policy : properties.getIngest().getImportPolicy();
+        UploadJob job = new UploadJob(mode, importPolicy, clock);
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        try {
+            job.setFuture(executor.submit(() -> run(job)));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            throw new UploadJobRejectedException("Upload queue is full, try again later.");
+        }
+        return job.toDto();
+    }
+
+    public UploadJobDto getJob(UUID jobId) {
+        return findJob(jobId).toDto();
+    }
+
+    public UploadJobDto cancel(UUID jobId) {
+        UploadJob job = findJob(jobId);
+        job.cancel();
+        return job.toDto();
+    }
+
+    private UploadJob findJob(UUID jobId) {
+        UploadJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new UploadJobNotFoundException("Upload job: " + jobId + " not found.");
+        }
+        return job;
+    }
+
+    private void run(UploadJob job) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            if (job.getMode() == UploadMode.DELTA) {
+                SyncResultDto result = service.synchronizeBankSwiftData(job.getPolicy(), job.getProgress());
+                job.finish(UploadStatus.SUCCEEDED, result.getMessage(), result);
+            } else {
+                service.downloadAndSaveBankSwiftData(job.getPolicy(), job.getProgress());
+                job.finish(UploadStatus.SUCCEEDED, "SWIFT codes uploaded successfully.", null);
+            }
+        } catch (UploadCancelledException e) {
+            job.finish(UploadStatus.CANCELLED, e.getMessage(), null);
+        } catch (ImportValidationException e) {
+            job.finish(UploadStatus.FAILED, e.getMessage(), null);
+        } catch (BankSwiftValidationException e) {
+            job.finish(UploadStatus.FAILED, e.getMessage() + ": " + e.getViolationMessage(), null);
+        } catch (Exception e) {
+            job.finish(UploadStatus.FAILED, "SWIFT codes upload failed: " + e.getMessage(), null);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        int excess = jobs.size() - properties.getUpload().getRetainedJobs() + 1;
+        Iterator<UploadJob> finished = jobs.values().stream()
+                .filter(job -> job.getStatus().isFinished())
+                .sorted(Comparator.comparing(UploadJob::getSubmittedAt))
+                .iterator();
+        while (excess-- > 0 && finished.hasNext()) {
+            jobs.remove(finished.next().getId());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.swift_code.job;
+
+public enum UploadMode {
+    FULL,
+    DELTA
+}
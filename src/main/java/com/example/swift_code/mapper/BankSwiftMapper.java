@@ -2,12 +2,15 @@ package com.example.swift_code.mapper;
 
 import com.example.swift_code.dto.BankSwiftDto;
 import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.repository.BankSwiftSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface BankSwiftMapper {
 
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "bankBaseCode", ignore = true)
     BankSwift toEntity(BankSwiftDto bankSwiftDto);
 
     @Mapping(target = "branches", ignore = true)
@@ -19,4 +22,8 @@ public interface BankSwiftMapper {
     @Mapping(target = "countryName", ignore = true)
     @Mapping(target = "branches", ignore = true)
     BankSwiftDto toDTOReduced(BankSwift code);
+
+    @Mapping(target = "countryName", ignore = true)
+    @Mapping(target = "branches", ignore = true)
+    BankSwiftDto toDTOReduced(BankSwiftSummary summary);
 }
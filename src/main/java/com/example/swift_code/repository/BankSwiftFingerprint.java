@@ -0,0 +1,7 @@
+package com.example.swift_code.repository;
+
+public interface BankSwiftFingerprint {
+    String getSwiftCode();
+
+    Long getContentHash();
+}
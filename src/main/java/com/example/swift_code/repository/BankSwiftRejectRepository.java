@@ -0,0 +1,7 @@
+package com.example.swift_code.repository;
+
+import com.example.swift_code.entity.BankSwiftReject;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BankSwiftRejectRepository extends JpaRepository<BankSwiftReject, Long> {
+}
@@ -1,11 +1,27 @@
 package com.example.swift_code.repository;
 
 import com.example.swift_code.entity.BankSwift;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-public interface BankSwiftRepository extends JpaRepository<BankSwift, String> {
-    List<BankSwift> findBySwiftCodeStartingWithAndSwiftCodeNot(String baseCode, String excludedCode);
+public interface BankSwiftRepository extends JpaRepository<BankSwift, String>, BankSwiftRepositoryCustom {
+    String SELECT_SUMMARY = "select new com.example.swift_code.repository.BankSwiftSummary("
+            + "b.swiftCode, b.countryIS02, b.countryName, b.bankName, b.address, b.isHeadquarter) from BankSwift b ";
+
     List<BankSwift> findAllByCountryIS02(String countryIS02);
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "where b.countryIS02 = :countryIS02")
+    List<BankSwiftSummary> findSummariesByCountryIS02(String countryIS02);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "where b.countryIS02 = :countryIS02 and b.swiftCode > :after order by b.swiftCode")
+    List<BankSwiftSummary> findSummariesByCountryIS02After(String countryIS02, String after, Limit limit);
+
+    @Query("select b.swiftCode as swiftCode, b.contentHash as contentHash from BankSwift b")
+    List<BankSwiftFingerprint> findAllFingerprints();
+}
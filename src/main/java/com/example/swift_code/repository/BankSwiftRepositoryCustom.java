@@ -0,0 +1,22 @@
+package com.example.swift_code.repository;
+
+import com.example.swift_code.entity.BankSwift;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface BankSwiftRepositoryCustom {
+    void upsertBatch(Collection<BankSwift> batch);
+
+    Set<String> insertAbsent(List<BankSwift> batch);
+
+    List<BankSwift> deleteCodes(Collection<String> swiftCodes);
+
+    List<BankSwift> deleteBank(String bankBaseCode);
+
+    List<BankSwift> deleteCountry(String countryIS02);
+
+    Stream<BankSwift> streamAll(String countryIS02, boolean headquartersOnly, int fetchSize);
+}
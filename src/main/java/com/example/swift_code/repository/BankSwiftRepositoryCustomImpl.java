@@ -0,0 +1,166 @@
+package com.example.swift_code.repository;
+
+import com.example.swift_code.entity.BankSwift;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.postgresql.PGConnection;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class BankSwiftRepositoryCustomImpl implements BankSwiftRepositoryCustom {
+    private static final String INSERT_COLUMNS = "INSERT INTO bank_swift "
+            + "(swift_code, countryis02, country_name, bank_name, address, is_headquarter, content_hash, bank_base_code) ";
+    static final String INSERT_ON_CONFLICT = INSERT_COLUMNS
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (swift_code) DO NOTHING";
+    static final String INSERT_WHERE_ABSENT = INSERT_COLUMNS
+            + "SELECT ?, ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM bank_swift WHERE swift_code = ?)";
+    static final String UPSERT_ON_CONFLICT = INSERT_COLUMNS
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (swift_code) DO UPDATE SET countryis02 = EXCLUDED.countryis02, "
+            + "country_name = EXCLUDED.country_name, bank_name = EXCLUDED.bank_name, address = EXCLUDED.address, "
+            + "is_headquarter = EXCLUDED.is_headquarter, content_hash = EXCLUDED.content_hash, "
+            + "bank_base_code = EXCLUDED.bank_base_code";
+    static final String MERGE_BY_KEY = "MERGE INTO bank_swift "
+            + "(swift_code, countryis02, country_name, bank_name, address, is_headquarter, content_hash, bank_base_code) "
+            + "KEY (swift_code) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETED_COLUMNS = "swift_code, countryis02, country_name, bank_name, address, is_headquarter";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void upsertBatch(Collection<BankSwift> batch) {
+        entityManager.flush();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            boolean onConflict = connection.isWrapperFor(PGConnection.class);
+            try (PreparedStatement statement = connection.prepareStatement(onConflict ? UPSERT_ON_CONFLICT : MERGE_BY_KEY)) {
+                for (BankSwift bankSwift : batch) {
+                    bind(statement, bankSwift);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional
+    public Set<String> insertAbsent(List<BankSwift> batch) {
+        entityManager.flush();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            boolean onConflict = connection.isWrapperFor(PGConnection.class);
+            try (PreparedStatement statement = connection.prepareStatement(onConflict ? INSERT_ON_CONFLICT : INSERT_WHERE_ABSENT)) {
+                for (BankSwift bankSwift : batch) {
+                    bind(statement, bankSwift);
+                    if (!onConflict) {
+                        statement.setString(9, bankSwift.getSwiftCode());
+                    }
+                    statement.addBatch();
+                }
+                int[] updateCounts = statement.executeBatch();
+
+                Set<String> inserted = new HashSet<>();
+                for (int i = 0; i < updateCounts.length; i++) {
+                    if (updateCounts[i] > 0) {
+                        inserted.add(batch.get(i).getSwiftCode());
+                    }
+                }
+                return inserted;
+            }
+        });
+    }
+
+    private static void bind(PreparedStatement statement, BankSwift bankSwift) throws SQLException {
+        bankSwift.updateDerivedColumns();
+        statement.setString(1, bankSwift.getSwiftCode());
+        statement.setString(2, bankSwift.getCountryIS02());
+        statement.setString(3, bankSwift.getCountryName());
+        statement.setString(4, bankSwift.getBankName());
+        statement.setString(5, bankSwift.getAddress());
+        statement.setBoolean(6, bankSwift.isHeadquarter());
+        statement.setLong(7, bankSwift.getContentHash());
+        statement.setString(8, bankSwift.getBankBaseCode());
+    }
+
+    @Override
+    @Transactional
+    public List<BankSwift> deleteCodes(Collection<String> swiftCodes) {
+        return deleteReturning("swift_code = ANY (?)", swiftCodes);
+    }
+
+    @Override
+    @Transactional
+    public List<BankSwift> deleteBank(String bankBaseCode) {
+        return deleteReturning("bank_base_code = ?", bankBaseCode);
+    }
+
+    @Override
+    @Transactional
+    public List<BankSwift> deleteCountry(String countryIS02) {
+        return deleteReturning("countryis02 = ?", countryIS02);
+    }
+
+    private List<BankSwift> deleteReturning(String condition, Object parameter) {
+        entityManager.flush();
+        List<BankSwift> deleted = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            String delete = "DELETE FROM bank_swift WHERE " + condition;
+            String sql = connection.isWrapperFor(PGConnection.class)
+                    ? delete + " RETURNING " + DELETED_COLUMNS
+                    : "SELECT " + DELETED_COLUMNS + " FROM OLD TABLE (" + delete + ")";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                if (parameter instanceof Collection<?> values) {
+                    statement.setArray(1, connection.createArrayOf("varchar", values.toArray()));
+                } else {
+                    statement.setObject(1, parameter);
+                }
+                List<BankSwift> rows = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(new BankSwift(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3),
+                                resultSet.getString(4), resultSet.getString(5), resultSet.getBoolean(6)));
+                    }
+                }
+                return rows;
+            }
+        });
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    public Stream<BankSwift> streamAll(String countryIS02, boolean headquartersOnly, int fetchSize) {
+        StringBuilder jpql = new StringBuilder("select b from BankSwift b where 1 = 1");
+        if (countryIS02 != null) {
+            jpql.append(" and b.countryIS02 = :countryIS02");
+        }
+        if (headquartersOnly) {
+            jpql.append(" and b.isHeadquarter = true");
+        }
+        jpql.append(" order by b.swiftCode");
+
+        TypedQuery<BankSwift> query = entityManager.createQuery(jpql.toString(), BankSwift.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (countryIS02 != null) {
+            query.setParameter("countryIS02", countryIS02);
+        }
+        return query.getResultStream()
+                .map(bankSwift -> {
+                    entityManager.detach(bankSwift);
+                    return bankSwift;
+                });
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.swift_code.repository;
+
+public record BankSwiftSummary(String swiftCode,
+                               String countryIS02,
+                               String countryName,
+                               String bankName,
+                               String address,
+                               boolean headquarter) {
+}
@@ -0,0 +1,7 @@
+package com.example.swift_code.repository;
+
+import com.example.swift_code.entity.SourceSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SourceSyncStateRepository extends JpaRepository<SourceSyncState, String> {
+}
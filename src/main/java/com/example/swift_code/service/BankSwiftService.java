@@ -1,50 +1,179 @@
 package com.example.swift_code.service;
 
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.config.SwiftProperties;
 import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.BankSwiftLookupDto;
+import com.example.swift_code.dto.BankSwiftLookupRequestDto;
+import com.example.swift_code.dto.BankSwiftSearchDto;
+import com.example.swift_code.dto.BulkDeleteResultDto;
+import com.example.swift_code.dto.BulkItemResultDto;
+import com.example.swift_code.dto.BulkItemStatus;
+import com.example.swift_code.dto.BulkResultDto;
 import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftPageDto;
+import com.example.swift_code.dto.SyncResultDto;
 import com.example.swift_code.entity.BankSwift;
 import com.example.swift_code.exceptions.BankSwiftDuplicateException;
 import com.example.swift_code.exceptions.BankSwiftNotFoundException;
-import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.exceptions.BulkLimitExceededException;
+import com.example.swift_code.exceptions.InvalidPageRequestException;
+import com.example.swift_code.exceptions.InvalidSearchRequestException;
+import com.example.swift_code.exceptions.LookupLimitExceededException;
 import com.example.swift_code.exceptions.NoCodesFoundException;
+import com.example.swift_code.index.BankNameSearchIndex;
+import com.example.swift_code.index.BankSwiftDirectory;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.ingest.BankSwiftCsvIngestor;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.ingest.IngestProgress;
+import com.example.swift_code.ingest.SourceDownload;
+import com.example.swift_code.ingest.SwiftSourceClient;
 import com.example.swift_code.mapper.BankSwiftMapper;
 import com.example.swift_code.repository.BankSwiftRepository;
+import com.example.swift_code.repository.BankSwiftSummary;
+import com.example.swift_code.validationgroups.BankBranch;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import com.opencsv.CSVReader;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class BankSwiftService {
     private final BankSwiftRepository repository;
     private final BankSwiftMapper mapper;
+    private final BankSwiftPrefixIndex prefixIndex;
+    private final BankNameSearchIndex searchIndex;
+    private final BankSwiftDirectory directory;
+    private final BankSwiftCsvIngestor ingestor;
+    private final SwiftSourceClient sourceClient;
+    private final SwiftProperties properties;
+    private final BankSwiftCache cache;
     private final Validator validator;
 
     public void addBankSwift(BankSwiftDto bankSwiftDto) {
-        if (repository.existsById(bankSwiftDto.getSwiftCode())) {
+        BankSwift bankSwift = mapper.toEntity(bankSwiftDto);
+        if (repository.insertAbsent(List.of(bankSwift)).isEmpty()) {
             throw new BankSwiftDuplicateException("SWIFT code already exists: " + bankSwiftDto.getSwiftCode());
         }
-        repository.saveAndFlush(mapper.toEntity(bankSwiftDto));
+        prefixIndex.put(bankSwift);
+        searchIndex.put(bankSwift);
+        cache.invalidate(bankSwift);
+    }
+
+    public BulkResultDto addBankSwifts(List<BankSwiftDto> bankSwiftDtos) {
+        int maxItems = properties.getBulk().getMaxItems();
+        if (bankSwiftDtos.size() > maxItems) {
+            throw new BulkLimitExceededException("Bulk requests are limited to " + maxItems + " SWIFT codes.");
+        }
+
+        BulkItemResultDto[] results = new BulkItemResultDto[bankSwiftDtos.size()];
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        List<BankSwift> bankSwifts = new ArrayList<>();
+        for (int index = 0; index < bankSwiftDtos.size(); index++) {
+            BankSwiftDto bankSwiftDto = bankSwiftDtos.get(index);
+            Set<ConstraintViolation<BankSwiftDto>> violations = validator.validate(bankSwiftDto, BankBranch.class);
+            if (!violations.isEmpty()) {
+                String message = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" "));
+                results[index] = new BulkItemResultDto(index, bankSwiftDto.getSwiftCode(), BulkItemStatus.INVALID, message);
+            } else if (pending.putIfAbsent(bankSwiftDto.getSwiftCode(), index) != null) {
+                results[index] = new BulkItemResultDto(index, bankSwiftDto.getSwiftCode(), BulkItemStatus.DUPLICATE,
+                        "SWIFT code repeated in request.");
+            } else {
+                bankSwifts.add(mapper.toEntity(bankSwiftDto));
+            }
+        }
+
+        int chunkSize = properties.getBulk().getChunkSize();
+        for (int from = 0; from < bankSwifts.size(); from += chunkSize) {
+            List<BankSwift> chunk = bankSwifts.subList(from, Math.min(from + chunkSize, bankSwifts.size()));
+            Set<String> inserted = repository.insertAbsent(chunk);
+            List<BankSwift> created = new ArrayList<>(inserted.size());
+            for (BankSwift bankSwift : chunk) {
+                int index = pending.get(bankSwift.getSwiftCode());
+                if (inserted.contains(bankSwift.getSwiftCode())) {
+                    created.add(bankSwift);
+                    results[index] = new BulkItemResultDto(index, bankSwift.getSwiftCode(), BulkItemStatus.CREATED, null);
+                } else {
+                    results[index] = new BulkItemResultDto(index, bankSwift.getSwiftCode(), BulkItemStatus.DUPLICATE,
+                            "SWIFT code already exists.");
+                }
+            }
+            prefixIndex.putAll(created);
+            for (BankSwift bankSwift : created) {
+                searchIndex.put(bankSwift);
+                cache.invalidate(bankSwift);
+            }
+        }
+
+        List<BulkItemResultDto> resultList = List.of(results);
+        return new BulkResultDto(count(resultList, BulkItemStatus.CREATED), count(resultList, BulkItemStatus.DUPLICATE),
+                count(resultList, BulkItemStatus.INVALID), resultList);
+    }
+
+    private static int count(List<BulkItemResultDto> results, BulkItemStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
     }
 
     public void deleteBankSwift(String swiftCode) {
-        if (!repository.existsById(swiftCode)) {
+        if (evictDeleted(repository.deleteCodes(List.of(swiftCode))).getDeleted() == 0) {
             throw new BankSwiftNotFoundException("SWIFT code: " + swiftCode + " not found.");
         }
-        repository.deleteById(swiftCode);
     }
 
+    public BulkDeleteResultDto deleteBankSwifts(List<String> swiftCodes) {
+        int maxItems = properties.getBulk().getMaxItems();
+        if (swiftCodes.size() > maxItems) {
+            throw new BulkLimitExceededException("Bulk requests are limited to " + maxItems + " SWIFT codes.");
+        }
+        return evictDeleted(repository.deleteCodes(new LinkedHashSet<>(swiftCodes)));
+    }
+
+    public BulkDeleteResultDto deleteBank(String bankBaseCode) {
+        BulkDeleteResultDto result = evictDeleted(repository.deleteBank(bankBaseCode));
+        if (result.getDeleted() == 0) {
+            throw new NoCodesFoundException("No SWIFT codes found for bank: " + bankBaseCode);
+        }
+        return result;
+    }
+
+    public BulkDeleteResultDto deleteCountry(String countryIS02) {
+        BulkDeleteResultDto result = evictDeleted(repository.deleteCountry(countryIS02));
+        if (result.getDeleted() == 0) {
+            throw new NoCodesFoundException("No SWIFT codes found for country: " + countryIS02);
+        }
+        return result;
+    }
+
+    private BulkDeleteResultDto evictDeleted(List<BankSwift> deleted) {
+        List<String> swiftCodes = deleted.stream().map(BankSwift::getSwiftCode).sorted().toList();
+        prefixIndex.removeAll(swiftCodes);
+        for (BankSwift bankSwift : deleted) {
+            searchIndex.remove(bankSwift.getSwiftCode());
+            cache.invalidate(bankSwift);
+        }
+        return new BulkDeleteResultDto(swiftCodes.size(), swiftCodes);
+    }
+
+    // Reads are not transactional, so memory-served ones take no connection; a database read is a single
+    // repository call in its own read-only transaction
     public BankSwiftDto getBankSwiftDto(String swiftcode) {
-        Optional<BankSwift> bankSwiftOpt = repository.findById(swiftcode);
+        if (directory.isMemoryServed()) {
+            return toBankSwiftDto(swiftcode, directory.codes().find(swiftcode));
+        }
+        return toBankSwiftDto(swiftcode, repository.findById(swiftcode));
+    }
+
+    private BankSwiftDto toBankSwiftDto(String swiftcode, Optional<BankSwift> bankSwiftOpt) {
         if (bankSwiftOpt.isPresent()) {
             BankSwift bankSwift = bankSwiftOpt.get();
 
@@ -65,60 +194,146 @@ public class BankSwiftService {
     }
 
     private List<BankSwiftDto> getBranches(String swiftcode) {
-        String baseCode = swiftcode.substring(0, 8);
-        return repository.findBySwiftCodeStartingWithAndSwiftCodeNot(baseCode, swiftcode)
-                .stream()
+        return prefixIndex.findBranches(swiftcode).stream()
                 .map(mapper::toDTOReduced)
                 .toList();
     }
 
+    public BankSwiftLookupDto lookupBankSwifts(BankSwiftLookupRequestDto request) {
+        List<String> swiftCodes = request.getSwiftCodes() != null ? request.getSwiftCodes() : List.of();
+        int maxCodes = properties.getLookup().getMaxCodes();
+        if (swiftCodes.size() > maxCodes) {
+            throw new LookupLimitExceededException("Lookup is limited to " + maxCodes + " SWIFT codes per request.");
+        }
+
+        List<BankSwiftDto> found = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        for (String swiftCode : new LinkedHashSet<>(swiftCodes)) {
+            Optional<BankSwift> bankSwiftOpt = swiftCode != null ? prefixIndex.find(swiftCode) : Optional.empty();
+            if (bankSwiftOpt.isPresent()) {
+                found.add(toLookupDto(bankSwiftOpt.get(), request.isIncludeBranches()));
+            } else {
+                notFound.add(swiftCode);
+            }
+        }
+        return new BankSwiftLookupDto(found, notFound);
+    }
+
+    private BankSwiftDto toLookupDto(BankSwift bankSwift, boolean includeBranches) {
+        if (!bankSwift.isHeadquarter()) {
+            return mapper.toDTOBranch(bankSwift);
+        }
+        return includeBranches ? getHeadquarterDto(bankSwift) : mapper.toDTOHeadquarter(bankSwift);
+    }
+
+    public BankSwiftSearchDto searchBankSwifts(String query, String countryIS02, Integer limit) {
+        int maxLimit = properties.getSearch().getMaxLimit();
+        int resultLimit = limit != null ? limit : properties.getSearch().getDefaultLimit();
+        if (resultLimit < 1 || resultLimit > maxLimit) {
+            throw new InvalidSearchRequestException("Limit must be between 1 and " + maxLimit + ".");
+        }
+        if (BankNameSearchIndex.normalize(query).length() < BankNameSearchIndex.GRAM_LENGTH) {
+            throw new InvalidSearchRequestException("Query must contain at least " + BankNameSearchIndex.GRAM_LENGTH + " letters or digits.");
+        }
+
+        List<BankSwiftDto> matches = searchIndex.search(query, countryIS02, resultLimit)
+                .stream()
+                .map(mapper::toDTOBranch)
+                .toList();
+        return new BankSwiftSearchDto(query, matches);
+    }
+
     public CountryBankSwiftDto getAllCountryCodes(String countryIS02) {
-        List<BankSwift> branches = repository.findAllByCountryIS02(countryIS02);
+        if (directory.isMemoryServed()) {
+            List<BankSwift> branches = directory.codes().country(countryIS02);
+            if (branches.isEmpty()) {
+                throw new NoCodesFoundException("No SWIFT codes found for country: " + countryIS02);
+            }
+            return new CountryBankSwiftDto(countryIS02, branches.get(0).getCountryName(),
+                    branches.stream().map(mapper::toDTOReduced).toList());
+        }
+        List<BankSwiftSummary> branches = repository.findSummariesByCountryIS02(countryIS02);
         if (branches.isEmpty()){
             throw new NoCodesFoundException("No SWIFT codes found for country: " + countryIS02);
         }
-        String countryName = branches.get(0).getCountryName();
+        String countryName = branches.get(0).countryName();
         List<BankSwiftDto> branchesDto = branches.stream().map(mapper::toDTOReduced).toList();
 
         return new CountryBankSwiftDto(countryIS02, countryName, branchesDto);
     }
 
-    public void downloadAndSaveBankSwiftData() throws IOException {
-        URL url = new URL("https://docs.google.com/spreadsheets/d/1iFFqsu_xruvVKzXAadAAlDBpIuU51v-pfIEU5HeGa8w/gviz/tq?tqx=out:csv&sheet=Sheet1");
-        InputStream inputStream = url.openStream();
+    public CountryBankSwiftPageDto getCountryCodesPage(String countryIS02, Integer limit, String after) {
+        int maxLimit = properties.getPagination().getMaxLimit();
+        int pageSize = limit != null ? limit : properties.getPagination().getDefaultLimit();
+        if (pageSize < 1 || pageSize > maxLimit) {
+            throw new InvalidPageRequestException("Limit must be between 1 and " + maxLimit + ".");
+        }
 
-        List<BankSwift> bankSwifts = parseCsvToBankSwift(inputStream);
+        String afterCode = after != null ? decodeCursor(after) : "";
+        if (directory.isMemoryServed()) {
+            List<BankSwift> rows = directory.codes().countryPage(countryIS02, afterCode, pageSize + 1);
+            return toCountryPage(countryIS02, after, pageSize, rows, BankSwift::getSwiftCode, BankSwift::getCountryName,
+                    mapper::toDTOReduced);
+        }
+        List<BankSwiftSummary> rows = repository.findSummariesByCountryIS02After(
+                countryIS02, afterCode, Limit.of(pageSize + 1));
+        return toCountryPage(countryIS02, after, pageSize, rows, BankSwiftSummary::swiftCode, BankSwiftSummary::countryName,
+                mapper::toDTOReduced);
+    }
 
-        bankSwifts.forEach(this::validate);
+    private static <T> CountryBankSwiftPageDto toCountryPage(String countryIS02, String after, int pageSize, List<T> rows,
+                                                            Function<T, String> swiftCode, Function<T, String> countryName,
+                                                            Function<T, BankSwiftDto> toDto) {
+        if (rows.isEmpty() && after == null) {
+            throw new NoCodesFoundException("No SWIFT codes found for country: " + countryIS02);
+        }
 
-        repository.saveAll(bankSwifts);
+        List<T> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String pageCountryName = page.isEmpty() ? null : countryName.apply(page.get(0));
+        String nextCursor = rows.size() > pageSize ? encodeCursor(swiftCode.apply(page.get(pageSize - 1))) : null;
+        List<BankSwiftDto> branchesDto = page.stream().map(toDto).toList();
+
+        return new CountryBankSwiftPageDto(countryIS02, pageCountryName, branchesDto, nextCursor);
+    }
+
+    private static String encodeCursor(String swiftCode) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(swiftCode.getBytes(StandardCharsets.UTF_8));
     }
 
-    private List<BankSwift> parseCsvToBankSwift(InputStream inputStream){
-        try (Reader reader = new InputStreamReader(inputStream)) {
-            CSVReader csvReader = new CSVReader(reader);
-            List<String[]> rows = csvReader.readAll();
-            return rows.stream().skip(1).map(this::mapToEntity).toList();
-        } catch (Exception e) {
-            throw new RuntimeException("Error parsing CSV file", e);
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Invalid cursor: " + cursor);
         }
     }
 
-    private BankSwift mapToEntity(String[] row){
-        BankSwift bankSwift = new BankSwift();
-        bankSwift.setCountryIS02(row[0]);
-        bankSwift.setSwiftCode(row[1]);
-        bankSwift.setBankName(row[3]);
-        bankSwift.setAddress(row[4]);
-        bankSwift.setCountryName(row[6]);
-        bankSwift.setHeadquarter(bankSwift.getSwiftCode().endsWith("XXX"));
-        return bankSwift;
+    public void downloadAndSaveBankSwiftData(ImportPolicy policy, IngestProgress progress) throws IOException {
+        SourceDownload download = sourceClient.open();
+        try (InputStream inputStream = progress.track(download.getInputStream(), download.getContentLength())) {
+            ingestor.ingest(inputStream, policy, progress);
+        }
+        prefixIndex.rebuild();
+        searchIndex.rebuild();
+        cache.invalidateAll();
     }
 
-    private void validate(BankSwift bankSwift){
-        Set<ConstraintViolation<BankSwift>> violations = validator.validate(bankSwift);
-        if (!violations.isEmpty()) {
-            throw new BankSwiftValidationException("Invalid SWIFT code format", violations);
+    public SyncResultDto synchronizeBankSwiftData(ImportPolicy policy, IngestProgress progress) throws IOException {
+        SourceDownload download = sourceClient.download();
+        if (download.isNotModified()) {
+            return new SyncResultDto("SWIFT codes source not modified.", true, 0, 0, 0, 0);
+        }
+
+        SyncResultDto result;
+        try (InputStream inputStream = progress.track(download.getInputStream(), download.getContentLength())) {
+            result = ingestor.synchronize(inputStream, policy, progress);
+        }
+        sourceClient.markSynchronized(download.getState());
+        if (result.hasChanges()) {
+            prefixIndex.rebuild();
+            searchIndex.rebuild();
+            cache.invalidateAll();
         }
+        return result;
     }
 }
@@ -0,0 +1,9 @@
+create table bank_swift (
+    swift_code varchar(255) not null,
+    countryis02 varchar(255),
+    country_name varchar(255),
+    bank_name varchar(255),
+    address varchar(255),
+    is_headquarter boolean not null,
+    primary key (swift_code)
+);
@@ -0,0 +1,7 @@
+alter table bank_swift add column bank_base_code varchar(8);
+
+update bank_swift set bank_base_code = substring(swift_code, 1, 8);
+
+alter table bank_swift alter column bank_base_code set not null;
+
+create index idx_bank_swift_bank_base_code on bank_swift (bank_base_code);
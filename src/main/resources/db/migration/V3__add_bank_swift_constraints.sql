@@ -0,0 +1,13 @@
+alter table bank_swift alter column countryis02 set not null;
+
+alter table bank_swift alter column country_name set not null;
+
+alter table bank_swift alter column bank_name set not null;
+
+alter table bank_swift add constraint chk_bank_swift_swift_code_not_blank check (trim(swift_code) <> '');
+
+alter table bank_swift add constraint chk_bank_swift_countryis02_not_blank check (trim(countryis02) <> '');
+
+alter table bank_swift add constraint chk_bank_swift_country_name_not_blank check (trim(country_name) <> '');
+
+alter table bank_swift add constraint chk_bank_swift_bank_name_not_blank check (trim(bank_name) <> '');
@@ -0,0 +1,9 @@
+-- Databases upgraded with ddl-auto=update before Flyway may already have these
+alter table bank_swift add column if not exists content_hash bigint;
+
+create table if not exists source_sync_state (
+    source_url varchar(255) not null,
+    etag varchar(255),
+    last_modified bigint,
+    primary key (source_url)
+);
@@ -0,0 +1,12 @@
+create table if not exists bank_swift_reject (
+    id bigint generated by default as identity,
+    row_number bigint not null,
+    swift_code varchar(255),
+    countryis02 varchar(255),
+    country_name varchar(255),
+    bank_name varchar(255),
+    address varchar(255),
+    violations varchar(4000),
+    rejected_at timestamp(6) with time zone,
+    primary key (id)
+);
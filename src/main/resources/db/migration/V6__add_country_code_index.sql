@@ -0,0 +1 @@
+create index if not exists idx_bank_swift_country_code on bank_swift (countryis02, swift_code);
@@ -0,0 +1,41 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.BankSwiftApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(Map<String, String> properties) {
+        return start(properties, WebApplicationType.NONE);
+    }
+
+    public static ConfigurableApplicationContext start(Map<String, String> properties, WebApplicationType webApplicationType) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.main.banner-mode=off");
+        args.add("--logging.level.root=WARN");
+        args.add("--swift.ingest.batch-size=500");
+
+        String url = System.getenv("SWIFT_BENCHMARK_DATASOURCE_URL");
+        if (url != null) {
+            args.add("--spring.datasource.url=" + url);
+            args.add("--spring.datasource.username=" + System.getenv("SWIFT_BENCHMARK_DATASOURCE_USERNAME"));
+            args.add("--spring.datasource.password=" + System.getenv("SWIFT_BENCHMARK_DATASOURCE_PASSWORD"));
+            args.add("--spring.datasource.driver-class-name=org.postgresql.Driver");
+            args.add("--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect");
+        }
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+
+        return new SpringApplicationBuilder(BankSwiftApplication.class)
+                .web(webApplicationType)
+                .run(args.toArray(String[]::new));
+    }
+}
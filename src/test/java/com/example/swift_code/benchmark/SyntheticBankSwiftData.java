@@ -0,0 +1,87 @@
+package com.example.swift_code.benchmark;
+
+import com.example.swift_code.entity.BankSwift;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SyntheticBankSwiftData {
+    public static final int BRANCHES_PER_BANK = 4;
+
+    private static final String[][] COUNTRIES = {
+            {"US", "UNITED STATES"}, {"DE", "GERMANY"}, {"GB", "UNITED KINGDOM"}, {"FR", "FRANCE"},
+            {"PL", "POLAND"}, {"IT", "ITALY"}, {"ES", "SPAIN"}, {"NL", "NETHERLANDS"},
+            {"CH", "SWITZERLAND"}, {"JP", "JAPAN"}, {"CN", "CHINA"}, {"BR", "BRAZIL"},
+            {"IN", "INDIA"}, {"CA", "CANADA"}, {"AU", "AUSTRALIA"}, {"SE", "SWEDEN"}
+    };
+    private static final String HEADER = "\"COUNTRY ISO2 CODE\",\"SWIFT CODE\",\"CODE TYPE\",\"NAME\",\"ADDRESS\",\"TOWN NAME\",\"COUNTRY NAME\",\"TIME ZONE\"\n";
+    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private SyntheticBankSwiftData() {
+    }
+
+    public static List<BankSwift> entities(int rows) {
+        List<BankSwift> bankSwifts = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            bankSwifts.add(entity(row));
+        }
+        return bankSwifts;
+    }
+
+    public static List<BankSwift> entitiesInCountry(int rows, String countryIS02) {
+        List<BankSwift> bankSwifts = entities(rows);
+        bankSwifts.forEach(bankSwift -> bankSwift.setCountryIS02(countryIS02));
+        return bankSwifts;
+    }
+
+    public static BankSwift entity(int row) {
+        int bank = row / (BRANCHES_PER_BANK + 1);
+        int branch = row % (BRANCHES_PER_BANK + 1);
+        String[] country = COUNTRIES[bank % COUNTRIES.length];
+        String swiftCode = baseCode(bank, country[0]) + (branch == 0 ? "XXX" : String.format("%03d", branch));
+        return new BankSwift(
+                swiftCode,
+                country[0],
+                country[1],
+                "SYNTHETIC BANK " + bank,
+                branch + " SYNTHETIC STREET, TOWN " + bank % 997,
+                branch == 0);
+    }
+
+    public static String headquarterCode(int bank) {
+        return entity(bank * (BRANCHES_PER_BANK + 1)).getSwiftCode();
+    }
+
+    public static String branchCode(int bank) {
+        return entity(bank * (BRANCHES_PER_BANK + 1) + 1).getSwiftCode();
+    }
+
+    public static String country(int index) {
+        return COUNTRIES[index % COUNTRIES.length][0];
+    }
+
+    public static byte[] csv(int rows) {
+        StringBuilder csv = new StringBuilder(HEADER.length() + rows * 120).append(HEADER);
+        for (int row = 0; row < rows; row++) {
+            BankSwift bankSwift = entity(row);
+            csv.append('"').append(bankSwift.getCountryIS02()).append("\",\"")
+                    .append(bankSwift.getSwiftCode()).append("\",\"BIC11\",\"")
+                    .append(bankSwift.getBankName()).append("\",\"")
+                    .append(bankSwift.getAddress()).append("\",\"TOWN\",\"")
+                    .append(bankSwift.getCountryName()).append("\",\"UTC\"\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String baseCode(int bank, String countryIS02) {
+        char[] bankCode = new char[4];
+        int remaining = bank;
+        for (int position = 3; position >= 0; position--) {
+            bankCode[position] = (char) ('A' + remaining % 26);
+            remaining /= 26;
+        }
+        String location = "" + ALPHANUMERIC.charAt(remaining % 36) + ALPHANUMERIC.charAt(remaining / 36 % 36);
+        return new String(bankCode) + countryIS02 + location;
+    }
+}
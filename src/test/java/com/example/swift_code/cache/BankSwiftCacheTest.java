@@ -0,0 +1,246 @@
+package com.example.swift_code.cache;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.entity.BankSwift;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankSwiftCacheTest {
+
+    SwiftProperties properties = new SwiftProperties();
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    AtomicLong nanos = new AtomicLong();
+
+    AtomicInteger loads = new AtomicInteger();
+
+    BankSwiftCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties.getCache().setMaximumSize(2);
+        properties.getCache().setTimeToLive(Duration.ofMinutes(1));
+        cache = new BankSwiftCache(properties, objectMapper, nanos::get);
+    }
+
+    private BankSwiftDto load(String swiftCode) {
+        loads.incrementAndGet();
+        BankSwiftDto dto = new BankSwiftDto();
+        dto.setSwiftCode(swiftCode);
+        return dto;
+    }
+
+    private CountryBankSwiftDto loadCountry(String countryIS02) {
+        loads.incrementAndGet();
+        return new CountryBankSwiftDto(countryIS02, "Test Country", List.of());
+    }
+
+    @Test
+    void getCode_shouldLoadOnceAndCountHitsAndMisses() {
+        SerializedResponse first = cache.getCode("12345678XXX", this::load);
+        SerializedResponse second = cache.getCode("12345678XXX", this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.codeStats().hitCount());
+        assertEquals(1, cache.codeStats().missCount());
+    }
+
+    @Test
+    void bindTo_shouldExposeHitsAndMissesPerCache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.getCode("12345678XXX", this::load);
+        cache.getCode("12345678XXX", this::load);
+        cache.getCountry("TT", this::loadCountry);
+
+        assertEquals(1, registry.get("cache.gets").tags("cache", "codes", "result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "codes", "result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "countries", "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void getCode_whenTimeToLiveElapsed_shouldReload() {
+        cache.getCode("12345678XXX", this::load);
+        nanos.addAndGet(Duration.ofMinutes(1).plusSeconds(1).toNanos());
+
+        cache.getCode("12345678XXX", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.codeStats().evictionCount());
+    }
+
+    @Test
+    void getCode_whenMaximumSizeExceeded_shouldEvict() {
+        cache.getCode("12345678XXX", this::load);
+        cache.getCode("12345678001", this::load);
+        cache.getCode("12345678002", this::load);
+
+        assertEquals(1, cache.codeStats().evictionCount());
+    }
+
+    @Test
+    void invalidate_whenBranchChanged_shouldInvalidateHeadquarterAndCountry() {
+        cache.getCode("12345678XXX", this::load);
+        cache.getCode("AAAAAAAAXXX", this::load);
+        cache.getCountry("TT", this::loadCountry);
+        loads.set(0);
+
+        cache.invalidate(new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false));
+        cache.getCode("12345678XXX", this::load);
+        cache.getCode("AAAAAAAAXXX", this::load);
+        cache.getCountry("TT", this::loadCountry);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getCode_whenDisabled_shouldAlwaysLoad() {
+        properties.getCache().setEnabled(false);
+        cache = new BankSwiftCache(properties, objectMapper);
+
+        cache.getCode("12345678XXX", this::load);
+        cache.getCode("12345678XXX", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getCode_shouldStoreSerializedJson() throws IOException {
+        SerializedResponse response = cache.getCode("12345678XXX", this::load);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(load("12345678XXX")), response.json());
+        assertFalse(response.isGzipped());
+    }
+
+    @Test
+    void getCountry_whenLargerThanGzipMinSize_shouldStoreGzippedCopy() throws IOException {
+        properties.getCache().setGzipMinSize(1);
+        cache = new BankSwiftCache(properties, objectMapper, nanos::get);
+
+        SerializedResponse response = cache.getCountry("TT", this::loadCountry);
+
+        assertTrue(response.isGzipped());
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.gzip()))) {
+            assertArrayEquals(response.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void etag_shouldChangeOnEveryInvalidation() {
+        String initial = cache.etag();
+        assertEquals(initial, cache.etag());
+
+        cache.invalidate(new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false));
+        String afterInvalidate = cache.etag();
+        cache.invalidateAll();
+
+        assertNotEquals(initial, afterInvalidate);
+        assertNotEquals(afterInvalidate, cache.etag());
+        assertTrue(initial.startsWith("\"") && initial.endsWith("\""));
+    }
+
+    @Test
+    void getCode_whenInvalidatedWhileLoading_shouldNotCacheLoadedValue() {
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+
+        cache.getCode("12345678XXX", swiftCode -> {
+            cache.invalidate(branch);
+            return load(swiftCode);
+        });
+        cache.getCode("12345678XXX", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.codeStats().hitCount());
+        assertEquals(2, cache.codeStats().missCount());
+    }
+
+    @Test
+    void getCode_whenLoadFinishesWhileInvalidating_shouldNotCacheLoadedValue() throws Exception {
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidating = new CountDownLatch(1);
+        CountDownLatch loaded = new CountDownLatch(1);
+        Thread[] writer = new Thread[1];
+        // Eviction reads the ticker, so the writer can be held after it evicts and before it returns
+        cache = new BankSwiftCache(properties, objectMapper, () -> {
+            if (Thread.currentThread() == writer[0] && invalidating.getCount() > 0) {
+                invalidating.countDown();
+                await(loaded);
+            }
+            return nanos.get();
+        });
+        cache.getCode("12345678XXX", this::load);
+
+        CompletableFuture<SerializedResponse> load = CompletableFuture.supplyAsync(() -> cache.getCode("12345678001", swiftCode -> {
+            loading.countDown();
+            await(invalidating);
+            return load(swiftCode);
+        }));
+        await(loading);
+        writer[0] = new Thread(() -> cache.invalidate(branch));
+        writer[0].start();
+        load.get(5, TimeUnit.SECONDS);
+        loaded.countDown();
+        writer[0].join(5000);
+
+        cache.getCode("12345678001", this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getCode_whenInvalidatedBetweenVersionCheckAndPut_shouldNotCacheLoadedValue() throws Exception {
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        CountDownLatch putting = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        Thread[] loader = new Thread[1];
+        // The put reads the ticker for the write time, so the loader can be held after its version check
+        cache = new BankSwiftCache(properties, objectMapper, () -> {
+            if (Thread.currentThread() == loader[0] && putting.getCount() > 0) {
+                putting.countDown();
+                await(invalidated);
+            }
+            return nanos.get();
+        });
+
+        CompletableFuture<SerializedResponse> load = CompletableFuture.supplyAsync(() -> cache.getCode("12345678001", swiftCode -> {
+            loader[0] = Thread.currentThread();
+            return load(swiftCode);
+        }));
+        await(putting);
+        cache.invalidate(branch);
+        invalidated.countDown();
+        load.get(5, TimeUnit.SECONDS);
+
+        cache.getCode("12345678001", this::load);
+        assertEquals(2, loads.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.swift_code.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    DataSource target;
+
+    @Mock
+    Connection connection;
+
+    ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_shouldHoldPermitUntilClosedOnce() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        assertEquals(0, dataSource.getAvailablePermits());
+
+        first.close();
+        first.close();
+
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_whenLimitReached_shouldFailAfterTimeout() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        assertEquals("Database concurrency limit of 2 reached, no connection permit within 50 ms", exception.getMessage());
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_whenTargetFails_shouldReleasePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_shouldDelegateCallsAndExposeTargetConnection() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        Connection limited = dataSource.getConnection();
+
+        assertTrue(limited.getAutoCommit());
+        assertSame(connection, DataSourceUtils.getTargetConnection(limited));
+        assertEquals(limited, limited);
+        assertNotEquals(limited, connection);
+    }
+
+    @Test
+    void bindTo_shouldExposeLimitAndWaitingThreads() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        dataSource.bindTo(registry);
+
+        assertEquals(2, registry.get("swift.database.connections.limit").gauge().value());
+        assertEquals(0, registry.get("swift.database.connections.waiting").gauge().value());
+    }
+}
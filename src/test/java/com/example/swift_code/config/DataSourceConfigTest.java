@@ -0,0 +1,43 @@
+package com.example.swift_code.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DataSourceConfigTest {
+
+    SwiftProperties properties = new SwiftProperties();
+
+    DataSource dataSource = mock(DataSource.class);
+
+    BeanPostProcessor postProcessor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<SwiftProperties> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(properties);
+        postProcessor = DataSourceConfig.routingDataSourcePostProcessor(provider);
+    }
+
+    @Test
+    void postProcess_withoutReplica_shouldKeepDataSource() {
+        assertSame(dataSource, postProcessor.postProcessAfterInitialization(dataSource, "dataSource"));
+    }
+
+    @Test
+    void postProcess_withMaxConcurrency_shouldOnlyLimitConcurrency() {
+        properties.getDatabase().setMaxConcurrency(10);
+
+        Object processed = postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertInstanceOf(ConcurrencyLimitedDataSource.class, processed);
+        assertSame(processed, postProcessor.postProcessAfterInitialization(processed, "limitedDataSource"));
+    }
+}
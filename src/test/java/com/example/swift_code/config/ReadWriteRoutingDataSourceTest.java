@@ -0,0 +1,172 @@
+package com.example.swift_code.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    DataSource primary = mock(DataSource.class);
+    DataSource replica = mock(DataSource.class);
+    Connection primaryConnection = mock(Connection.class);
+    Connection replicaConnection = mock(Connection.class);
+    Statement statement = mock(Statement.class);
+    ResultSet lag = mock(ResultSet.class);
+
+    ReadWriteRoutingDataSource dataSource;
+
+    ReadYourWrites caller = ReadYourWrites.open(0);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(primaryConnection.createStatement()).thenReturn(statement);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lag);
+        when(lag.next()).thenReturn(true);
+        when(lag.getDouble(1)).thenReturn(1.0);
+
+        SwiftProperties.Database.Replica properties = new SwiftProperties.Database.Replica();
+        properties.setLagQuery("select lag");
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setCheckInterval(Duration.ofHours(1));
+        dataSource = new ReadWriteRoutingDataSource(primary, replica, properties);
+        verify(lag, timeout(1000)).getDouble(1);
+        dataSource.checkReplica();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        caller.close();
+        dataSource.close();
+    }
+
+    private void execute(boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            connection.createStatement();
+            connection.commit();
+        }
+    }
+
+    @Test
+    void readOnlyConnection_whenReplicaWithinLag_shouldUseReplica() throws SQLException {
+        execute(true);
+
+        assertTrue(dataSource.isReadingFromReplica());
+        verify(replicaConnection, times(3)).createStatement();
+        verify(primaryConnection, never()).createStatement();
+    }
+
+    @Test
+    void connection_shouldNotBeAcquiredUntilUsed() throws SQLException {
+        dataSource.getConnection().close();
+        reset(primary);
+
+        dataSource.getConnection().close();
+
+        verify(primary, never()).getConnection();
+        verify(replica, times(2)).getConnection();
+    }
+
+    @Test
+    void writeConnection_shouldUsePrimaryAndKeepReadsOnPrimaryForMaxLag() throws SQLException {
+        execute(true);
+        assertTrue(dataSource.isReadingFromReplica());
+
+        execute(false);
+        execute(true);
+
+        assertTrue(dataSource.isReplicaAvailable());
+        assertFalse(dataSource.isReadingFromReplica());
+        verify(primaryConnection, times(2)).createStatement();
+        verify(replicaConnection, times(3)).createStatement();
+    }
+
+    @Test
+    void writeConnection_withoutCaller_shouldKeepReadingFromReplica() throws SQLException {
+        caller.close();
+
+        execute(false);
+
+        assertTrue(dataSource.isReadingFromReplica());
+    }
+
+    @Test
+    void writeConnection_shouldOnlyKeepWritingCallerOnPrimary() throws Exception {
+        execute(false);
+
+        assertFalse(dataSource.isReadingFromReplica());
+        assertTrue(CompletableFuture.supplyAsync(() -> {
+            ReadYourWrites other = ReadYourWrites.open(0);
+            try {
+                return dataSource.isReadingFromReplica();
+            } finally {
+                other.close();
+            }
+        }).get());
+    }
+
+    @Test
+    void readOnlyConnection_whenReplicaLags_shouldUsePrimary() throws SQLException {
+        when(lag.getDouble(1)).thenReturn(60.0);
+        dataSource.checkReplica();
+
+        execute(true);
+
+        assertFalse(dataSource.isReplicaAvailable());
+        verify(primaryConnection).createStatement();
+    }
+
+    @Test
+    void readOnlyConnection_whenReplicaDown_shouldFallBackToPrimary() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        execute(true);
+
+        assertFalse(dataSource.isReplicaAvailable());
+        verify(primaryConnection).createStatement();
+    }
+
+    @Test
+    void writeConnection_whenStatementRunsWithoutCommit_shouldKeepReadsOnPrimaryForMaxLag() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Statement created = connection.createStatement();
+            assertTrue(dataSource.isReadingFromReplica());
+            created.executeUpdate("delete from bank_swift");
+        }
+
+        assertFalse(dataSource.isReadingFromReplica());
+        verify(statement).executeUpdate("delete from bank_swift");
+        verify(primaryConnection, never()).commit();
+    }
+
+    @Test
+    void bindTo_shouldExposeReplicaAvailabilityAndLag() throws SQLException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dataSource.bindTo(registry);
+
+        assertEquals(1, registry.get("swift.database.replica.available").gauge().value());
+        assertEquals(1.0, registry.get("swift.database.replica.lag").gauge().value());
+
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        dataSource.checkReplica();
+
+        assertEquals(0, registry.get("swift.database.replica.available").gauge().value());
+        assertTrue(Double.isNaN(registry.get("swift.database.replica.lag").gauge().value()));
+    }
+}
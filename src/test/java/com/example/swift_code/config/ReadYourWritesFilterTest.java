@@ -0,0 +1,65 @@
+package com.example.swift_code.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    ReadYourWritesFilter filter = new ReadYourWritesFilter();
+
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/swift-codes");
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void doFilter_whenRequestWrites_shouldSetCookieBeforeBody() throws Exception {
+        long before = System.currentTimeMillis();
+
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            ReadYourWrites.written(Duration.ofSeconds(5));
+            assertTrue(ReadYourWrites.readsPrimary());
+            servletResponse.getOutputStream().write('{');
+            servletResponse.flushBuffer();
+        });
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        assertTrue(Long.parseLong(cookie.getValue()) >= before + 5000);
+        assertEquals(5, cookie.getMaxAge());
+        assertEquals("/", cookie.getPath());
+        assertFalse(ReadYourWrites.readsPrimary());
+    }
+
+    @Test
+    void doFilter_whenRequestOnlyReads_shouldNotSetCookie() throws Exception {
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> assertFalse(ReadYourWrites.readsPrimary()));
+
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void doFilter_whenCookieStillValid_shouldKeepReadsOnPrimary() throws Exception {
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 5000)));
+
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> assertTrue(ReadYourWrites.readsPrimary()));
+    }
+
+    @Test
+    void doFilter_whenCookieExpiredOrInvalid_shouldReadReplica() throws Exception {
+        FilterChain chain = (servletRequest, servletResponse) -> assertFalse(ReadYourWrites.readsPrimary());
+
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        filter.doFilter(request, response, chain);
+
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/v1/swift-codes/country/TT");
+        invalid.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "soon"));
+        filter.doFilter(invalid, new MockHttpServletResponse(), chain);
+    }
+}
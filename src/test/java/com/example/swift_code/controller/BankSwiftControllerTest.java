@@ -1,29 +1,60 @@
 package com.example.swift_code.controller;
 
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.config.SwiftProperties.ReadMode;
 import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.BankSwiftLookupDto;
+import com.example.swift_code.dto.BankSwiftLookupRequestDto;
+import com.example.swift_code.dto.BankSwiftSearchDto;
+import com.example.swift_code.dto.BulkDeleteResultDto;
+import com.example.swift_code.dto.BulkItemResultDto;
+import com.example.swift_code.dto.BulkItemStatus;
+import com.example.swift_code.dto.BulkResultDto;
 import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftPageDto;
+import com.example.swift_code.dto.UploadJobDto;
+import com.example.swift_code.entity.BankSwift;
 import com.example.swift_code.exceptions.BankSwiftNotFoundException;
 import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.exceptions.InvalidExportRequestException;
 import com.example.swift_code.exceptions.NoCodesFoundException;
+import com.example.swift_code.exceptions.UploadJobNotFoundException;
+import com.example.swift_code.exceptions.UploadJobRejectedException;
+import com.example.swift_code.export.BankSwiftExporter;
+import com.example.swift_code.export.ExportFormat;
+import com.example.swift_code.index.BankSwiftCodes;
+import com.example.swift_code.index.BankSwiftDirectory;
+import com.example.swift_code.index.BankSwiftSnapshot;
+import com.example.swift_code.job.UploadJobService;
+import com.example.swift_code.job.UploadMode;
+import com.example.swift_code.job.UploadStatus;
 import com.example.swift_code.service.BankSwiftService;
 import com.example.swift_code.validationgroups.BankBranch;
 import com.example.swift_code.validationgroups.BankHeadquarter;
 import com.example.swift_code.validationgroups.BankInfoReduced;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,12 +67,44 @@ class BankSwiftControllerTest {
     @Mock
     Validator validator;
 
-    @InjectMocks
+    @Mock
+    UploadJobService uploadJobService;
+
+    @Mock
+    BankSwiftExporter exporter;
+
+    @Mock
+    BankSwiftDirectory directory;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    SwiftProperties properties;
+
+    MockHttpServletRequest servletRequest;
+
+    MockHttpServletResponse servletResponse;
+
+    ServletWebRequest request;
+
+    BankSwiftCache cache;
+
     BankSwiftController controller;
 
     @BeforeEach
-    void resetMocks() {
+    void setUp() {
         reset(service, validator);
+        properties = new SwiftProperties();
+        properties.getValidation().setReadMode(ReadMode.ALL);
+        servletRequest = new MockHttpServletRequest("GET", "/v1/swift-codes/12345678XXX");
+        servletResponse = new MockHttpServletResponse();
+        request = new ServletWebRequest(servletRequest, servletResponse);
+        controller = newController();
+    }
+
+    private BankSwiftController newController() {
+        cache = new BankSwiftCache(properties, objectMapper);
+        return new BankSwiftController(service, uploadJobService, exporter, validator,
+                new ResponseValidator(validator, properties), directory, cache);
     }
 
     @Test
@@ -88,6 +151,32 @@ class BankSwiftControllerTest {
         verify(service, times(1)).deleteBankSwift(swiftCode);
     }
 
+    @Test
+    void deleteBankSwifts_shouldReturnDeletedCodes() {
+        BulkDeleteResultDto result = new BulkDeleteResultDto(1, List.of("12345678XXX"));
+        when(service.deleteBankSwifts(List.of("12345678XXX", "UNKNOWN0XXX"))).thenReturn(result);
+
+        ResponseEntity<BulkDeleteResultDto> response = controller.deleteBankSwifts(List.of("12345678XXX", "UNKNOWN0XXX"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    void deleteBank_shouldReturnDeletedCodes() {
+        BulkDeleteResultDto result = new BulkDeleteResultDto(2, List.of("12345678001", "12345678XXX"));
+        when(service.deleteBank("12345678")).thenReturn(result);
+
+        assertEquals(result, controller.deleteBank("12345678").getBody());
+    }
+
+    @Test
+    void deleteCountry_whenNoCodesFound_shouldThrowNoCodesFoundException() {
+        when(service.deleteCountry("XX")).thenThrow(new NoCodesFoundException("No SWIFT codes found for country: XX"));
+
+        assertThrows(NoCodesFoundException.class, () -> controller.deleteCountry("XX"));
+    }
+
     @Test
     void deleteBankSwift_whenInvalidInput_shouldThrowBankSwiftNotFoundException() {
         String swiftCode = "INVALID";
@@ -102,7 +191,7 @@ class BankSwiftControllerTest {
     }
 
     @Test
-    void getBankSwift_whenValidHeadquarter_shouldReturnOk() {
+    void getBankSwift_whenValidHeadquarter_shouldReturnOk() throws Exception {
         String swiftCode = "12345678XXX";
         BankSwiftDto bankSwiftDto = new BankSwiftDto();
         bankSwiftDto.setHeadquarter(true);
@@ -110,10 +199,10 @@ class BankSwiftControllerTest {
         when(service.getBankSwiftDto(swiftCode)).thenReturn(bankSwiftDto);
         when(validator.validate(bankSwiftDto, BankHeadquarter.class)).thenReturn(Set.of());
 
-        ResponseEntity<BankSwiftDto> response = controller.getBankSwift(swiftCode);
+        ResponseEntity<byte[]> response = controller.getBankSwift(swiftCode, request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(bankSwiftDto, response.getBody());
+        assertArrayEquals(objectMapper.writeValueAsBytes(bankSwiftDto), response.getBody());
 
         verify(service, times(1)).getBankSwiftDto(swiftCode);
         verify(validator, times(1)).validate(bankSwiftDto, BankHeadquarter.class);
@@ -131,14 +220,14 @@ class BankSwiftControllerTest {
         ConstraintViolation<BankSwiftDto> violation = mock(ConstraintViolation.class);
         when(validator.validate(bankSwiftDto, BankHeadquarter.class)).thenReturn(Set.of(violation));
 
-        assertThrows(BankSwiftValidationException.class, () -> controller.getBankSwift(swiftCode));
+        assertThrows(BankSwiftValidationException.class, () -> controller.getBankSwift(swiftCode, request));
 
         verify(service, times(1)).getBankSwiftDto(swiftCode);
         verify(validator, times(1)).validate(bankSwiftDto, BankHeadquarter.class);
     }
 
     @Test
-    void getBankSwift_whenValidBranch_shouldReturnOk() {
+    void getBankSwift_whenValidBranch_shouldReturnOk() throws Exception {
         String swiftCode = "12345678XXX";
         BankSwiftDto bankSwiftDto = new BankSwiftDto();
         bankSwiftDto.setHeadquarter(false);
@@ -146,10 +235,10 @@ class BankSwiftControllerTest {
         when(service.getBankSwiftDto(swiftCode)).thenReturn(bankSwiftDto);
         when(validator.validate(bankSwiftDto, BankBranch.class)).thenReturn(Set.of());
 
-        ResponseEntity<BankSwiftDto> response = controller.getBankSwift(swiftCode);
+        ResponseEntity<byte[]> response = controller.getBankSwift(swiftCode, request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(bankSwiftDto, response.getBody());
+        assertArrayEquals(objectMapper.writeValueAsBytes(bankSwiftDto), response.getBody());
 
         verify(service, times(1)).getBankSwiftDto(swiftCode);
         verify(validator, times(1)).validate(bankSwiftDto, BankBranch.class);
@@ -167,14 +256,126 @@ class BankSwiftControllerTest {
         ConstraintViolation<BankSwiftDto> violation = mock(ConstraintViolation.class);
         when(validator.validate(bankSwiftDto, BankBranch.class)).thenReturn(Set.of(violation));
 
-        assertThrows(BankSwiftValidationException.class, () -> controller.getBankSwift(swiftCode));
+        assertThrows(BankSwiftValidationException.class, () -> controller.getBankSwift(swiftCode, request));
+
+        verify(service, times(1)).getBankSwiftDto(swiftCode);
+        verify(validator, times(1)).validate(bankSwiftDto, BankBranch.class);
+    }
+
+    @Test
+    void addBankSwifts_shouldReturnBulkResult() {
+        List<BankSwiftDto> bankSwiftDtos = List.of(new BankSwiftDto());
+        BulkResultDto result = new BulkResultDto(1, 0, 0,
+                List.of(new BulkItemResultDto(0, "12345678XXX", BulkItemStatus.CREATED, null)));
+        when(service.addBankSwifts(bankSwiftDtos)).thenReturn(result);
+
+        ResponseEntity<BulkResultDto> response = controller.addBankSwifts(bankSwiftDtos);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+        verifyNoInteractions(validator);
+    }
+
+    @Test
+    void searchBankSwifts_shouldReturnMatches() {
+        BankSwiftSearchDto result = new BankSwiftSearchDto("deutsche", List.of(new BankSwiftDto()));
+        when(service.searchBankSwifts("deutsche", "DE", 5)).thenReturn(result);
+
+        ResponseEntity<BankSwiftSearchDto> response = controller.searchBankSwifts("deutsche", "DE", 5);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+        verifyNoInteractions(validator);
+    }
 
+    @Test
+    void lookupBankSwifts_shouldReturnLookupResult() {
+        BankSwiftLookupRequestDto request = new BankSwiftLookupRequestDto(List.of("12345678XXX", "UNKNOWN0XXX"), true);
+        BankSwiftLookupDto lookupDto = new BankSwiftLookupDto(List.of(new BankSwiftDto()), List.of("UNKNOWN0XXX"));
+        when(service.lookupBankSwifts(request)).thenReturn(lookupDto);
+
+        ResponseEntity<BankSwiftLookupDto> response = controller.lookupBankSwifts(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(lookupDto, response.getBody());
+        verify(service, times(1)).lookupBankSwifts(request);
+        verifyNoInteractions(validator);
+    }
+
+    @Test
+    void getBankSwift_whenCached_shouldNotCallServiceOrValidateAgain() {
+        String swiftCode = "12345678001";
+        BankSwiftDto bankSwiftDto = new BankSwiftDto();
+        when(service.getBankSwiftDto(swiftCode)).thenReturn(bankSwiftDto);
+        when(validator.validate(bankSwiftDto, BankBranch.class)).thenReturn(Set.of());
+
+        ResponseEntity<byte[]> first = controller.getBankSwift(swiftCode, request);
+        ResponseEntity<byte[]> second = controller.getBankSwift(swiftCode, request);
+
+        assertSame(first.getBody(), second.getBody());
         verify(service, times(1)).getBankSwiftDto(swiftCode);
         verify(validator, times(1)).validate(bankSwiftDto, BankBranch.class);
     }
 
     @Test
-    void getAllCountryCodes_whenValidCountryBankSwiftDto_shouldReturnOk() {
+    void getBankSwift_whenNotFound_shouldNotCacheMiss() {
+        String swiftCode = "12345678001";
+        when(service.getBankSwiftDto(swiftCode)).thenThrow(new BankSwiftNotFoundException("SWIFT code: " + swiftCode + " not found."));
+
+        assertThrows(BankSwiftNotFoundException.class, () -> controller.getBankSwift(swiftCode, request));
+        assertThrows(BankSwiftNotFoundException.class, () -> controller.getBankSwift(swiftCode, request));
+
+        verify(service, times(2)).getBankSwiftDto(swiftCode);
+    }
+
+    @Test
+    void getBankSwift_whenEtagMatches_shouldReturnNotModified() {
+        String swiftCode = "12345678001";
+        when(service.getBankSwiftDto(swiftCode)).thenReturn(new BankSwiftDto());
+        controller.getBankSwift(swiftCode, request);
+        String etag = servletResponse.getHeader(HttpHeaders.ETAG);
+
+        servletRequest = new MockHttpServletRequest("GET", "/v1/swift-codes/" + swiftCode);
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        servletResponse = new MockHttpServletResponse();
+
+        assertNull(controller.getBankSwift(swiftCode, new ServletWebRequest(servletRequest, servletResponse)));
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        assertEquals(etag, servletResponse.getHeader(HttpHeaders.ETAG));
+        verify(service, times(1)).getBankSwiftDto(swiftCode);
+    }
+
+    @Test
+    void getBankSwift_whenEtagMatchesUnknownCode_shouldThrowNotFoundWithoutEtag() {
+        String swiftCode = "UNKNOWN0XXX";
+        when(service.getBankSwiftDto(swiftCode)).thenThrow(new BankSwiftNotFoundException("SWIFT code: " + swiftCode + " not found."));
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, cache.etag());
+
+        assertThrows(BankSwiftNotFoundException.class, () -> controller.getBankSwift(swiftCode, request));
+        assertNull(servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getAllCountryCodes_whenGzipAccepted_shouldReturnGzippedBytes() {
+        properties.getCache().setGzipMinSize(1);
+        controller = newController();
+        CountryBankSwiftDto countryDto = new CountryBankSwiftDto("TT", "Test Country", List.of());
+        when(service.getAllCountryCodes("TT")).thenReturn(countryDto);
+        servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        ResponseEntity<byte[]> gzipped = controller.getAllCountryCodes("TT", request);
+        ResponseEntity<byte[]> plain = controller.getAllCountryCodes("TT",
+                new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), gzipped.getHeaders().getVary());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), plain.getHeaders().getVary());
+        assertNotEquals(plain.getBody().length, gzipped.getBody().length);
+    }
+
+    @Test
+    void getAllCountryCodes_whenValidCountryBankSwiftDto_shouldReturnOk() throws Exception {
         String countryIS02 = "TT";
         CountryBankSwiftDto countryDto = new CountryBankSwiftDto("", "", List.of());
         BankSwiftDto branchDto = new BankSwiftDto();
@@ -183,18 +384,44 @@ class BankSwiftControllerTest {
         when(service.getAllCountryCodes(countryIS02)).thenReturn(countryDto);
         when(validator.validate(branchDto, BankInfoReduced.class)).thenReturn(Set.of());
 
-        controller.getAllCountryCodes(countryIS02);
+        ResponseEntity<byte[]> response = controller.getAllCountryCodes(countryIS02, request);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(countryDto), response.getBody());
 
         verify(service, times(1)).getAllCountryCodes(countryIS02);
         verify(validator, times(1)).validate(branchDto, BankInfoReduced.class);
     }
 
+    @Test
+    void getCountryCodesPage_shouldValidateAndReturnPage() {
+        BankSwiftDto branchDto = new BankSwiftDto();
+        CountryBankSwiftPageDto pageDto = new CountryBankSwiftPageDto("TT", "Test Country", List.of(branchDto), "cursor");
+
+        when(service.getCountryCodesPage("TT", 10, "after")).thenReturn(pageDto);
+        when(validator.validate(branchDto, BankInfoReduced.class)).thenReturn(Set.of());
+
+        ResponseEntity<CountryBankSwiftPageDto> response = controller.getCountryCodesPage("TT", 10, "after", request);
+
+        assertEquals(pageDto, response.getBody());
+        verify(validator, times(1)).validate(branchDto, BankInfoReduced.class);
+    }
+
+    @Test
+    void getCountryCodesPage_whenEtagMatches_shouldReturnNotModified() {
+        when(service.getCountryCodesPage("TT", 10, null))
+                .thenReturn(new CountryBankSwiftPageDto("TT", "Test Country", List.of(), null));
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, cache.etag());
+
+        assertNull(controller.getCountryCodesPage("TT", 10, null, request));
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+    }
+
     @Test
     void getAllCountryCodes_whenNoCodesFound_shouldThrowsNotFoundException() {
         String countryIS02 = "TT";
         when(service.getAllCountryCodes(countryIS02)).thenThrow(new NoCodesFoundException("No codes found."));
 
-        assertThrows(NoCodesFoundException.class, () -> controller.getAllCountryCodes(countryIS02));
+        assertThrows(NoCodesFoundException.class, () -> controller.getAllCountryCodes(countryIS02, request));
     }
 
     @Test
@@ -209,30 +436,118 @@ class BankSwiftControllerTest {
         ConstraintViolation<BankSwiftDto> violation = mock(ConstraintViolation.class);
         when(validator.validate(branchDto, BankInfoReduced.class)).thenReturn(Set.of(violation));
 
-        assertThrows(BankSwiftValidationException.class, () -> controller.getAllCountryCodes(countryIS02));
+        assertThrows(BankSwiftValidationException.class, () -> controller.getAllCountryCodes(countryIS02, request));
 
         verify(service, times(1)).getAllCountryCodes(countryIS02);
         verify(validator, times(1)).validate(any(), any());
     }
 
     @Test
-    void uploadData_whenValidInput_shouldReturnOk() throws Exception {
-        doNothing().when(service).downloadAndSaveBankSwiftData();
-        ResponseEntity<Map<String, String>> response = controller.uploadData();
+    void exportCodes_shouldStreamThroughExporter() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = controller.exportCodes("csv", "TT", true);
 
-        Map<String, String> expectedResponse = Map.of("message", "SWIFT codes uploaded successfully.");
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(expectedResponse, response.getBody());
-        verify(service, times(1)).downloadAndSaveBankSwiftData();
+        assertEquals(ExportFormat.CSV.getMediaType(), response.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"swift-codes.csv\"", response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        verify(exporter, never()).export(any(), any(), anyBoolean(), any());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        verify(exporter, times(1)).export(ExportFormat.CSV, "TT", true, outputStream);
     }
 
     @Test
-    void uploadData_whenInvalidInput_shouldThrowBankSwiftValidationException() throws Exception {
-        @SuppressWarnings("unchecked")
-        ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
-        doThrow(new BankSwiftValidationException("Validation failed", Set.of(violation))).when(service).downloadAndSaveBankSwiftData();
+    void exportCodes_whenMemoryServed_shouldExportSnapshotRows() throws Exception {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        when(directory.isMemoryServed()).thenReturn(true);
+        when(directory.codes()).thenReturn(new BankSwiftCodes(BankSwiftSnapshot.of(List.of(branch, headquarter))));
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportCodes("ndjson", "TT", true);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        verify(exporter, times(1)).export(ExportFormat.NDJSON, List.of(headquarter), outputStream);
+        verify(exporter, never()).export(any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void exportCodes_whenFormatUnsupported_shouldThrowInvalidExportRequestException() {
+        assertThrows(InvalidExportRequestException.class, () -> controller.exportCodes("xml", null, false));
+    }
+
+    @Test
+    void uploadData_shouldSubmitFullUploadJob() {
+        UploadJobDto job = new UploadJobDto();
+        job.setJobId(UUID.randomUUID());
+        job.setMode(UploadMode.FULL);
+        job.setStatus(UploadStatus.QUEUED);
+        when(uploadJobService.submit(UploadMode.FULL, null)).thenReturn(job);
+
+        ResponseEntity<UploadJobDto> response = controller.uploadData(null);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job, response.getBody());
+        assertEquals(URI.create("/v1/swift-codes/upload/jobs/" + job.getJobId()), response.getHeaders().getLocation());
+        verify(uploadJobService, times(1)).submit(UploadMode.FULL, null);
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void uploadData_whenQueueFull_shouldThrowUploadJobRejectedException() {
+        when(uploadJobService.submit(UploadMode.FULL, null)).thenThrow(new UploadJobRejectedException("Upload queue is full, try again later."));
+
+        assertThrows(UploadJobRejectedException.class, () -> controller.uploadData(null));
+        verify(uploadJobService, times(1)).submit(UploadMode.FULL, null);
+    }
+
+    @Test
+    void synchronizeData_shouldSubmitDeltaUploadJob() {
+        UploadJobDto job = new UploadJobDto();
+        job.setJobId(UUID.randomUUID());
+        job.setMode(UploadMode.DELTA);
+        when(uploadJobService.submit(UploadMode.DELTA, null)).thenReturn(job);
+
+        ResponseEntity<UploadJobDto> response = controller.synchronizeData(null);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job, response.getBody());
+        verify(uploadJobService, times(1)).submit(UploadMode.DELTA, null);
+    }
+
+    @Test
+    void getUploadJob_shouldReturnJob() {
+        UUID jobId = UUID.randomUUID();
+        UploadJobDto job = new UploadJobDto();
+        job.setJobId(jobId);
+        when(uploadJobService.getJob(jobId)).thenReturn(job);
+
+        ResponseEntity<UploadJobDto> response = controller.getUploadJob(jobId);
 
-        assertThrows(BankSwiftValidationException.class, () -> controller.uploadData());
-        verify(service, times(1)).downloadAndSaveBankSwiftData();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(job, response.getBody());
+    }
+
+    @Test
+    void getUploadJob_whenJobNotFound_shouldThrowUploadJobNotFoundException() {
+        UUID jobId = UUID.randomUUID();
+        when(uploadJobService.getJob(jobId)).thenThrow(new UploadJobNotFoundException("Upload job: " + jobId + " not found."));
+
+        assertThrows(UploadJobNotFoundException.class, () -> controller.getUploadJob(jobId));
+    }
+
+    @Test
+    void cancelUploadJob_shouldCancelJob() {
+        UUID jobId = UUID.randomUUID();
+        UploadJobDto job = new UploadJobDto();
+        job.setJobId(jobId);
+        job.setStatus(UploadStatus.CANCELLED);
+        when(uploadJobService.cancel(jobId)).thenReturn(job);
+
+        ResponseEntity<UploadJobDto> response = controller.cancelUploadJob(jobId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(job, response.getBody());
+        verify(uploadJobService, times(1)).cancel(jobId);
     }
-}
\ No newline at end of file
+}
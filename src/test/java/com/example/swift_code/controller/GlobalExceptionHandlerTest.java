@@ -4,10 +4,19 @@ import com.example.swift_code.dto.BankSwiftDto;
 import com.example.swift_code.exceptions.BankSwiftDuplicateException;
 import com.example.swift_code.exceptions.BankSwiftNotFoundException;
 import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.exceptions.InvalidExportRequestException;
+import com.example.swift_code.exceptions.InvalidPageRequestException;
+import com.example.swift_code.exceptions.BulkLimitExceededException;
+import com.example.swift_code.exceptions.InvalidSearchRequestException;
+import com.example.swift_code.exceptions.LookupLimitExceededException;
+import com.example.swift_code.exceptions.UploadJobNotFoundException;
+import com.example.swift_code.exceptions.UploadJobRejectedException;
 import jakarta.validation.ConstraintViolation;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import java.util.Map;
 import java.util.Set;
@@ -59,4 +68,98 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
         assertEquals(expectedResponse, response.getBody());
     }
+
+    @Test
+    void handleUploadJobNotFoundException() {
+        String message = "Upload job: 1 not found.";
+        UploadJobNotFoundException exception = new UploadJobNotFoundException(message);
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleUploadJobNotFoundException(exception);
+
+        Map<String, String> expectedResponse = Map.of("message", message);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(expectedResponse, response.getBody());
+    }
+
+    @Test
+    void handleUploadJobRejectedException() {
+        String message = "Upload queue is full, try again later.";
+        UploadJobRejectedException exception = new UploadJobRejectedException(message);
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleUploadJobRejectedException(exception);
+
+        Map<String, String> expectedResponse = Map.of("message", message);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(expectedResponse, response.getBody());
+    }
+
+    @Test
+    void handleLookupLimitExceededException() {
+        String message = "Lookup is limited to 10 SWIFT codes per request.";
+        LookupLimitExceededException exception = new LookupLimitExceededException(message);
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleLookupLimitExceededException(exception);
+
+        Map<String, String> expectedResponse = Map.of("message", message);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertEquals(expectedResponse, response.getBody());
+    }
+
+    @Test
+    void handleBulkLimitExceededException() {
+        String message = "Bulk requests are limited to 10 SWIFT codes.";
+        BulkLimitExceededException exception = new BulkLimitExceededException(message);
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleBulkLimitExceededException(exception);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertEquals(Map.of("message", message), response.getBody());
+    }
+
+    @Test
+    void handleInvalidSearchRequestException() {
+        String message = "Query must contain at least 3 letters or digits.";
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleInvalidSearchRequestException(
+                new InvalidSearchRequestException(message));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Map.of("message", message), response.getBody());
+    }
+
+    @Test
+    void handleInvalidPageRequestException() {
+        String message = "Invalid cursor: abc";
+        InvalidPageRequestException exception = new InvalidPageRequestException(message);
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleInvalidPageRequestException(exception);
+
+        Map<String, String> expectedResponse = Map.of("message", message);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(expectedResponse, response.getBody());
+    }
+
+    @Test
+    void handleInvalidExportRequestException() {
+        String message = "Unsupported export format: xml";
+        InvalidExportRequestException exception = new InvalidExportRequestException(message);
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleInvalidExportRequestException(exception);
+
+        Map<String, String> expectedResponse = Map.of("message", message);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(expectedResponse, response.getBody());
+    }
+
+    @Test
+    void handleDatabaseUnavailableException() {
+        CannotCreateTransactionException exception = new CannotCreateTransactionException("Could not open JPA EntityManager for transaction");
+
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleDatabaseUnavailableException(exception);
+
+        Map<String, String> expectedResponse = Map.of("message", "Database is busy, please retry later.");
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(expectedResponse, response.getBody());
+    }
 }
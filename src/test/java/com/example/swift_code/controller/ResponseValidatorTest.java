@@ -0,0 +1,77 @@
+package com.example.swift_code.controller;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.config.SwiftProperties.ReadMode;
+import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.validationgroups.BankInfoReduced;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseValidatorTest {
+    @Mock
+    Validator validator;
+
+    @Mock
+    DoubleSupplier sampler;
+
+    @Test
+    void validate_whenReadModeAll_shouldThrowOnViolation() {
+        BankSwiftDto dto = new BankSwiftDto();
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<BankSwiftDto> violation = mock(ConstraintViolation.class);
+        when(validator.validate(dto, BankInfoReduced.class)).thenReturn(Set.of(violation));
+
+        ResponseValidator responseValidator = responseValidator(ReadMode.ALL);
+
+        BankSwiftValidationException exception = assertThrows(BankSwiftValidationException.class,
+                () -> responseValidator.validate(dto, BankInfoReduced.class));
+        assertEquals("Invalid SWIFT code DTO format BankInfoReduced", exception.getMessage());
+        verifyNoInteractions(sampler);
+    }
+
+    @Test
+    void validate_whenReadModeNone_shouldNotValidate() {
+        responseValidator(ReadMode.NONE).validate(new BankSwiftDto(), BankInfoReduced.class);
+
+        verifyNoInteractions(validator, sampler);
+    }
+
+    @Test
+    void validate_whenReadModeSampled_shouldAuditOnlySampledDtosWithoutThrowing() {
+        BankSwiftDto sampled = new BankSwiftDto();
+        BankSwiftDto skipped = new BankSwiftDto();
+        skipped.setSwiftCode("12345678XXX");
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<BankSwiftDto> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Bank name is mandatory.");
+        when(validator.validate(sampled, BankInfoReduced.class)).thenReturn(Set.of(violation));
+        when(sampler.getAsDouble()).thenReturn(0.05, 0.5);
+
+        ResponseValidator responseValidator = responseValidator(ReadMode.SAMPLED);
+
+        assertDoesNotThrow(() -> responseValidator.validate(sampled, BankInfoReduced.class));
+        responseValidator.validate(skipped, BankInfoReduced.class);
+
+        verify(validator, times(1)).validate(sampled, BankInfoReduced.class);
+        verify(validator, never()).validate(skipped, BankInfoReduced.class);
+    }
+
+    private ResponseValidator responseValidator(ReadMode readMode) {
+        SwiftProperties properties = new SwiftProperties();
+        properties.getValidation().setReadMode(readMode);
+        properties.getValidation().setSampleRate(0.1);
+        return new ResponseValidator(validator, properties, sampler);
+    }
+}
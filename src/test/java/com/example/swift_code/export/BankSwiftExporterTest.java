@@ -0,0 +1,87 @@
+package com.example.swift_code.export;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.mapper.BankSwiftMapperImpl;
+import com.example.swift_code.repository.BankSwiftRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankSwiftExporterTest {
+
+    @Mock
+    BankSwiftRepository repository;
+
+    SwiftProperties properties = new SwiftProperties();
+
+    BankSwiftExporter exporter;
+
+    BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Street 1, \"Centre\"", true);
+
+    BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", null, false);
+
+    @BeforeEach
+    void setUp() {
+        properties.getExport().setFetchSize(50);
+        exporter = new BankSwiftExporter(repository, new BankSwiftMapperImpl(), new ObjectMapper(), properties);
+    }
+
+    @Test
+    void export_whenNdjson_shouldWriteOneJsonObjectPerLine() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamAll("TT", false, 50)).thenReturn(Stream.of(headquarter, branch).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long written = exporter.export(ExportFormat.NDJSON, "TT", false, outputStream);
+
+        assertEquals(2, written);
+        String expected = "{\"address\":\"Street 1, \\\"Centre\\\"\",\"bankName\":\"Test Bank\",\"countryIS02\":\"TT\",\"countryName\":\"Test Country\",\"isHeadquarter\":true,\"swiftCode\":\"12345678XXX\"}\n"
+                + "{\"bankName\":\"Test Bank\",\"countryIS02\":\"TT\",\"countryName\":\"Test Country\",\"isHeadquarter\":false,\"swiftCode\":\"12345678001\"}\n";
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void export_whenCsv_shouldWriteHeaderAndQuoteOnlyWhenNeeded() throws IOException {
+        when(repository.streamAll(null, true, 50)).thenReturn(Stream.of(headquarter, branch));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long written = exporter.export(ExportFormat.CSV, null, true, outputStream);
+
+        assertEquals(2, written);
+        String expected = "swiftCode,countryIS02,countryName,bankName,address,isHeadquarter\n"
+                + "12345678XXX,TT,Test Country,Test Bank,\"Street 1, \"\"Centre\"\"\",true\n"
+                + "12345678001,TT,Test Country,Test Bank,,false\n";
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_whenClientDisconnects_shouldStopAndCloseStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamAll(null, false, 50)).thenReturn(Stream.generate(() -> branch).onClose(() -> closed.set(true)));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> exporter.export(ExportFormat.CSV, null, false, broken));
+        assertTrue(closed.get());
+    }
+}
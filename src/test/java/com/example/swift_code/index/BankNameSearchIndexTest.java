@@ -0,0 +1,119 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.BankSwift;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankNameSearchIndexTest {
+
+    @Mock
+    BankSwiftPrefixIndex prefixIndex;
+
+    BankNameSearchIndex searchIndex;
+
+    private BankSwift deutscheHeadquarter;
+    private BankSwift deutscheBranch;
+    private BankSwift bancoSantander;
+    private BankSwift santanderConsumer;
+    private BankSwift credit;
+
+    @BeforeEach
+    void setUp() {
+        deutscheHeadquarter = new BankSwift("DEUTDEFFXXX", "DE", "GERMANY", "DEUTSCHE BANK AG", "TAUNUSANLAGE 12", true);
+        deutscheBranch = new BankSwift("DEUTDEFF500", "DE", "GERMANY", "DEUTSCHE BANK AG", "FRANKFURT", false);
+        bancoSantander = new BankSwift("BSCHESMMXXX", "ES", "SPAIN", "BANCO SANTANDER S.A.", "PASEO DE PEREDA 9", true);
+        santanderConsumer = new BankSwift("SCFBDE33XXX", "DE", "GERMANY", "SANTANDER CONSUMER BANK AG", "SANTANDER-PLATZ 1", true);
+        credit = new BankSwift("CRLYFRPPXXX", "FR", "FRANCE", "CRÉDIT LYONNAIS", "RUE DE DEUTSCHLAND", true);
+
+        when(prefixIndex.all()).thenReturn(List.of(deutscheBranch, bancoSantander, deutscheHeadquarter, santanderConsumer, credit));
+        searchIndex = new BankNameSearchIndex(prefixIndex, new SwiftProperties());
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void search_shouldRankNamePrefixBeforeWordAndAddressMatches() {
+        assertEquals(List.of(santanderConsumer, bancoSantander), searchIndex.search("santander", null, 10));
+        assertEquals(List.of(deutscheHeadquarter, deutscheBranch, credit), searchIndex.search("Deutsch", null, 10));
+    }
+
+    @Test
+    void search_shouldIgnoreCaseDiacriticsAndPunctuation() {
+        assertEquals(List.of(credit), searchIndex.search("credit lyon", null, 10));
+        assertEquals(List.of(bancoSantander), searchIndex.search("santander s a", null, 10));
+    }
+
+    @Test
+    void search_shouldFilterByCountryAndApplyLimit() {
+        assertEquals(List.of(santanderConsumer), searchIndex.search("santander", "de", 10));
+        assertEquals(List.of(deutscheHeadquarter), searchIndex.search("deutsche", null, 1));
+        assertTrue(searchIndex.search("commerzbank", null, 10).isEmpty());
+        assertTrue(searchIndex.search("ab", null, 10).isEmpty());
+    }
+
+    @Test
+    void putAndRemove_shouldUpdateIndexIncrementally() {
+        BankSwift renamed = new BankSwift("DEUTDEFF500", "DE", "GERMANY", "POSTBANK", "BONN", false);
+        BankSwift added = new BankSwift("COBADEFFXXX", "DE", "GERMANY", "COMMERZBANK AG", "KAISERPLATZ", true);
+
+        searchIndex.put(renamed);
+        searchIndex.put(added);
+        searchIndex.remove("BSCHESMMXXX");
+
+        assertEquals(List.of(deutscheHeadquarter, credit), searchIndex.search("deutsch", null, 10));
+        assertEquals(List.of(renamed), searchIndex.search("postbank", null, 10));
+        assertEquals(List.of(added), searchIndex.search("commerz", null, 10));
+        assertEquals(List.of(santanderConsumer), searchIndex.search("santander", null, 10));
+    }
+
+    @Test
+    void put_duringRebuild_shouldBeAppliedToRebuiltIndex() throws Exception {
+        BankSwift added = new BankSwift("COBADEFFXXX", "DE", "GERMANY", "COMMERZBANK AG", "KAISERPLATZ", true);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+        when(prefixIndex.all()).thenAnswer(invocation -> {
+            reading.countDown();
+            read.await();
+            return List.of(deutscheHeadquarter);
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(searchIndex::rebuild);
+        reading.await();
+        CompletableFuture<Void> put = CompletableFuture.runAsync(() -> searchIndex.put(added));
+        assertThrows(TimeoutException.class, () -> put.get(100, TimeUnit.MILLISECONDS));
+        read.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        put.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(added), searchIndex.search("commerz", null, 10));
+    }
+
+    @Test
+    void search_whenAddressNotIncluded_shouldMatchNamesOnly() {
+        SwiftProperties properties = new SwiftProperties();
+        properties.getSearch().setIncludeAddress(false);
+        BankNameSearchIndex namesOnly = new BankNameSearchIndex(prefixIndex, properties);
+        namesOnly.rebuild();
+
+        assertEquals(List.of(deutscheHeadquarter, deutscheBranch), namesOnly.search("deutsch", null, 10));
+    }
+
+    @Test
+    void normalize_shouldLowercaseAndCollapseSeparators() {
+        assertEquals("credit lyonnais s a", BankNameSearchIndex.normalize("  Crédit-Lyonnais, S.A. "));
+        assertEquals("", BankNameSearchIndex.normalize(null));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.entity.BankSwift;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankSwiftCodesTest {
+
+    private BankSwift headquarter;
+    private BankSwift branch1;
+    private BankSwift branch2;
+    private BankSwift otherCountry;
+    private BankSwiftCodes codes;
+
+    @BeforeEach
+    void setUp() {
+        headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true);
+        branch1 = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Test address branch 1", false);
+        branch2 = new BankSwift("12345678002", "TT", "Test Country", "Test Bank", "Test address branch 2", false);
+        otherCountry = new BankSwift("AAAAAAAA001", "AA", "Other Country", "Other Bank", "Test address other", false);
+        codes = new BankSwiftCodes(BankSwiftSnapshot.of(List.of(otherCountry, branch2, headquarter, branch1)));
+    }
+
+    @Test
+    void with_shouldOverlayChangesAndLeaveOriginalUnchanged() {
+        BankSwift added = new BankSwift("12345678003", "TT", "Test Country", "Test Bank", "Test address branch 3", false);
+        BankSwift moved = new BankSwift("12345678002", "TT", "Test Country", "Test Bank", "New address branch 2", false);
+
+        BankSwiftCodes updated = codes.with(List.of(added, moved), List.of("12345678001", "UNKNOWN0XXX"));
+
+        assertEquals(3, updated.changes());
+        assertEquals(4, updated.size());
+        assertEquals(Optional.of(moved), updated.find("12345678002"));
+        assertTrue(updated.find("12345678001").isEmpty());
+        assertEquals(List.of(moved, added), updated.findBranches("12345678XXX"));
+        assertEquals(List.of(moved, added, headquarter), updated.country("TT"));
+        assertEquals(List.of(otherCountry), updated.country("AA"));
+        assertEquals(List.of(moved, added, headquarter, otherCountry), updated.all());
+        assertEquals(List.of(branch1, branch2, headquarter), codes.country("TT"));
+    }
+
+    @Test
+    void with_whenAddedCodeIsRemoved_shouldDropItFromOverlay() {
+        BankSwift added = new BankSwift("12345678003", "TT", "Test Country", "Test Bank", "Test address branch 3", false);
+
+        BankSwiftCodes updated = codes.with(List.of(added), List.of()).with(List.of(), List.of("12345678003"));
+
+        assertEquals(0, updated.changes());
+        assertEquals(4, updated.size());
+        assertTrue(updated.find("12345678003").isEmpty());
+    }
+
+    @Test
+    void with_whenNothingChanges_shouldReturnSameCodes() {
+        assertSame(codes, codes.with(List.of(), List.of("UNKNOWN0XXX")));
+    }
+
+    @Test
+    void compact_shouldFoldOverlayIntoSnapshot() {
+        BankSwift added = new BankSwift("BBBBBBBBXXX", "BB", "B Country", "B Bank", null, true);
+
+        BankSwiftCodes compacted = codes.with(List.of(added), List.of("AAAAAAAA001")).compact();
+
+        assertEquals(0, compacted.changes());
+        assertEquals(List.of(branch1, branch2, headquarter, added), compacted.all());
+        assertEquals(List.of(), compacted.country("AA"));
+        assertEquals(List.of(added), compacted.country("BB"));
+    }
+
+    @Test
+    void countryPage_shouldStartAfterGivenCode() {
+        BankSwiftCodes updated = codes.with(List.of(), List.of("12345678002"));
+
+        assertEquals(List.of(branch1, branch2), codes.countryPage("TT", "", 2));
+        assertEquals(List.of(branch2, headquarter), codes.countryPage("TT", "12345678001", 5));
+        assertEquals(List.of(headquarter), updated.countryPage("TT", "12345678001", 5));
+        assertEquals(List.of(), codes.countryPage("TT", "12345678XXX", 5));
+    }
+
+    @Test
+    void rows_shouldFilterAndOrderBySwiftCode() {
+        assertEquals(List.of(branch1, branch2, headquarter, otherCountry), codes.rows(null, false));
+        assertEquals(List.of(headquarter), codes.rows("TT", true));
+    }
+}
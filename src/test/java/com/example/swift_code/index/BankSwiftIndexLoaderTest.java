@@ -0,0 +1,32 @@
+package com.example.swift_code.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankSwiftIndexLoaderTest {
+
+    @Mock
+    BankSwiftPrefixIndex prefixIndex;
+
+    @Mock
+    BankNameSearchIndex searchIndex;
+
+    @InjectMocks
+    BankSwiftIndexLoader loader;
+
+    @Test
+    void afterSingletonsInstantiated_shouldLoadCodeIndexBeforeSearchIndex() {
+        loader.afterSingletonsInstantiated();
+
+        InOrder inOrder = inOrder(prefixIndex, searchIndex);
+        inOrder.verify(prefixIndex).rebuild();
+        inOrder.verify(searchIndex).rebuild();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.repository.BankSwiftRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankSwiftPrefixIndexTest {
+
+    @Mock
+    BankSwiftRepository repository;
+
+    @InjectMocks
+    BankSwiftPrefixIndex prefixIndex;
+
+    private BankSwift headquarter;
+    private BankSwift branch1;
+    private BankSwift branch2;
+    private BankSwift otherBank;
+
+    @BeforeEach
+    void setUp() {
+        headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true);
+        branch1 = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Test address branch 1", false);
+        branch2 = new BankSwift("12345678002", "TT", "Test Country", "Test Bank", "Test address branch 2", false);
+        otherBank = new BankSwift("12345679001", "TT", "Test Country", "Other Bank", "Test address other", false);
+
+        when(repository.findAll()).thenReturn(List.of(otherBank, branch2, headquarter, branch1));
+        prefixIndex.rebuild();
+    }
+
+    @Test
+    void findBranches_shouldReturnSortedBranchesWithoutHeadquarter() {
+        List<BankSwift> branches = prefixIndex.findBranches("12345678XXX");
+
+        assertEquals(List.of(branch1, branch2), branches);
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void findBranches_whenNoBranches_shouldReturnEmptyList() {
+        assertTrue(prefixIndex.findBranches("AAAAAAAAXXX").isEmpty());
+    }
+
+    @Test
+    void find_shouldReturnIndexedCode() {
+        assertEquals(Optional.of(branch1), prefixIndex.find("12345678001"));
+        assertEquals(Optional.empty(), prefixIndex.find("UNKNOWN0XXX"));
+    }
+
+    @Test
+    void put_shouldMakeBranchVisible() {
+        BankSwift branch3 = new BankSwift("12345678003", "TT", "Test Country", "Test Bank", "Test address branch 3", false);
+
+        prefixIndex.put(branch3);
+
+        assertEquals(List.of(branch1, branch2, branch3), prefixIndex.findBranches("12345678XXX"));
+    }
+
+    @Test
+    void remove_shouldHideBranch() {
+        prefixIndex.remove("12345678001");
+
+        assertEquals(List.of(branch2), prefixIndex.findBranches("12345678XXX"));
+    }
+
+    @Test
+    void putAll_whenOverlayReachesThreshold_shouldCompactIntoSnapshot() {
+        List<BankSwift> added = new ArrayList<>();
+        for (int index = 0; index < BankSwiftPrefixIndex.COMPACT_THRESHOLD; index++) {
+            added.add(new BankSwift(String.format("BBBBBBBB%03d", index), "BB", "B Country", "B Bank", null, false));
+        }
+
+        prefixIndex.put(added.get(0));
+        assertEquals(1, prefixIndex.codes().changes());
+        prefixIndex.putAll(added);
+
+        assertEquals(0, prefixIndex.codes().changes());
+        assertEquals(4 + BankSwiftPrefixIndex.COMPACT_THRESHOLD, prefixIndex.codes().size());
+        assertEquals(Optional.of(added.get(7)), prefixIndex.find("BBBBBBBB007"));
+    }
+
+    @Test
+    void rebuild_shouldReplacePreviousContent() {
+        when(repository.findAll()).thenReturn(List.of(headquarter));
+
+        prefixIndex.rebuild();
+
+        assertTrue(prefixIndex.findBranches("12345678XXX").isEmpty());
+    }
+
+    @Test
+    void put_duringRebuild_shouldBeAppliedToRebuiltIndex() throws Exception {
+        BankSwift branch3 = new BankSwift("12345678003", "TT", "Test Country", "Test Bank", "Test address branch 3", false);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch loaded = new CountDownLatch(1);
+        when(repository.findAll()).thenAnswer(invocation -> {
+            loading.countDown();
+            loaded.await();
+            return List.of(headquarter, branch1, branch2);
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(prefixIndex::rebuild);
+        loading.await();
+        CompletableFuture<Void> put = CompletableFuture.runAsync(() -> prefixIndex.put(branch3));
+        assertThrows(TimeoutException.class, () -> put.get(100, TimeUnit.MILLISECONDS));
+        loaded.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        put.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(branch1, branch2, branch3), prefixIndex.findBranches("12345678XXX"));
+    }
+
+    @Test
+    void baseCode_shouldReturnFirstEightCharacters() {
+        assertEquals("12345678", BankSwiftPrefixIndex.baseCode("12345678XXX"));
+        assertEquals("TESTXXX", BankSwiftPrefixIndex.baseCode("TESTXXX"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.swift_code.index;
+
+import com.example.swift_code.entity.BankSwift;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankSwiftSnapshotTest {
+
+    private BankSwift headquarter;
+    private BankSwift branch1;
+    private BankSwift branch2;
+    private BankSwift otherCountry;
+    private BankSwiftSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true);
+        branch1 = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Test address branch 1", false);
+        branch2 = new BankSwift("12345678002", "TT", "Test Country", "Test Bank", "Test address branch 2", false);
+        otherCountry = new BankSwift("AAAAAAAA001", "AA", "Other Country", "Other Bank", "Test address other", false);
+        snapshot = BankSwiftSnapshot.of(List.of(otherCountry, branch2, headquarter, branch1));
+    }
+
+    @Test
+    void of_shouldGroupCodesByCountryAndBank() {
+        assertEquals(4, snapshot.size());
+        assertEquals(Optional.of(branch1), snapshot.find("12345678001"));
+        assertEquals(List.of(branch1, branch2, headquarter), snapshot.country("TT"));
+        assertEquals(List.of(branch1, branch2), snapshot.findBranches("12345678XXX"));
+        assertEquals(List.of(), snapshot.country("BB"));
+    }
+
+    @Test
+    void with_shouldReturnUpdatedCopyAndLeaveOriginalUnchanged() {
+        BankSwift added = new BankSwift("12345678003", "TT", "Test Country", "Test Bank", "Test address branch 3", false);
+
+        BankSwiftSnapshot updated = snapshot.with(List.of(added), List.of("12345678001", "AAAAAAAA001"));
+
+        assertEquals(List.of(branch2, added, headquarter), updated.country("TT"));
+        assertEquals(List.of(branch2, added), updated.findBranches("12345678XXX"));
+        assertEquals(List.of(), updated.country("AA"));
+        assertTrue(updated.find("12345678001").isEmpty());
+        assertEquals(List.of(branch1, branch2, headquarter), snapshot.country("TT"));
+        assertEquals(Optional.of(otherCountry), snapshot.find("AAAAAAAA001"));
+    }
+
+    @Test
+    void with_shouldDropNamesNoLongerReferenced() {
+        BankSwift renamed = new BankSwift("AAAAAAAA001", "AA", "Renamed Country", "Renamed Bank", "Test address other", false);
+
+        BankSwiftSnapshot updated = snapshot.with(List.of(renamed), List.of("AAAAAAAA001"));
+
+        assertEquals(Optional.of(renamed), updated.find("AAAAAAAA001"));
+        assertEquals(snapshot.dictionarySize(), updated.dictionarySize());
+        assertEquals(2, updated.with(List.of(), List.of("AAAAAAAA001")).dictionarySize());
+    }
+
+    @Test
+    void with_whenNothingChanges_shouldReturnSameSnapshot() {
+        assertSame(snapshot, snapshot.with(List.of(), List.of("UNKNOWN0XXX")));
+    }
+
+    @Test
+    void with_whenCodeCannotBePacked_shouldKeepItInOrder() {
+        BankSwift lowerCase = new BankSwift("12345678abc", "TT", "Test Country", "Test Bank", null, false);
+
+        BankSwiftSnapshot updated = snapshot.with(List.of(lowerCase), List.of());
+
+        assertEquals(Optional.of(lowerCase), updated.find("12345678abc"));
+        assertEquals(List.of(branch1, branch2, headquarter, lowerCase), updated.country("TT"));
+        assertEquals(List.of(branch1, branch2, lowerCase), updated.findBranches("12345678XXX"));
+        assertTrue(updated.with(List.of(), List.of("12345678abc")).find("12345678abc").isEmpty());
+    }
+
+    @Test
+    void find_shouldKeepNullAndNonAsciiAddresses() {
+        BankSwift withoutAddress = new BankSwift("BBBBBBBBXXX", "BB", "Bé Country", "Bänk", null, true);
+        BankSwift withAddress = new BankSwift("BBBBBBBB001", "BB", "Bé Country", "Bänk", "Straße 1", false);
+
+        BankSwiftSnapshot updated = snapshot.with(List.of(withoutAddress, withAddress), List.of());
+
+        assertEquals(Optional.of(withoutAddress), updated.find("BBBBBBBBXXX"));
+        assertEquals(Optional.of(withAddress), updated.find("BBBBBBBB001"));
+        assertEquals(Optional.of(headquarter), updated.find("12345678XXX"));
+        assertEquals(6, updated.size());
+    }
+}
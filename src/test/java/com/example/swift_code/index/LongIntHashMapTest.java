@@ -0,0 +1,41 @@
+package com.example.swift_code.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void put_shouldStoreAndOverwriteValues() {
+        LongIntHashMap map = new LongIntHashMap(2);
+
+        map.put(42L, 1);
+        map.put(0L, 2);
+        map.put(42L, 3);
+
+        assertEquals(3, map.get(42L));
+        assertEquals(2, map.get(0L));
+        assertEquals(LongIntHashMap.MISSING, map.get(7L));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void put_whenExpectedSizeExceeded_shouldGrow() {
+        LongIntHashMap map = new LongIntHashMap(1);
+
+        for (int index = 0; index < 10_000; index++) {
+            map.put(index * 37L * 37L * 37L, index);
+        }
+
+        assertEquals(10_000, map.size());
+        for (int index = 0; index < 10_000; index++) {
+            assertEquals(index, map.get(index * 37L * 37L * 37L));
+        }
+    }
+
+    @Test
+    void put_whenReservedKey_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(1).put(Long.MIN_VALUE, 1));
+    }
+}
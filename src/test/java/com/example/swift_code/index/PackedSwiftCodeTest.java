@@ -0,0 +1,53 @@
+package com.example.swift_code.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedSwiftCodeTest {
+
+    @Test
+    void encode_shouldRoundTripEightAndElevenCharacterCodes() {
+        for (String swiftCode : List.of("AAAAAAAA", "ZZZZZZZZZZZ", "12345678XXX", "BREXPLPWMBK", "TESTXXX", "0")) {
+            long packed = PackedSwiftCode.encode(swiftCode);
+
+            assertTrue(packed > 0 && packed < 1L << 58, swiftCode);
+            assertEquals(swiftCode, PackedSwiftCode.decode(packed));
+        }
+    }
+
+    @Test
+    void encode_shouldPreserveStringOrder() {
+        List<String> ordered = List.of("12345678", "12345678001", "12345678XXX", "1234567A", "AAAAAAAA", "AAAAAAAAXXX");
+
+        for (int index = 1; index < ordered.size(); index++) {
+            assertTrue(PackedSwiftCode.encode(ordered.get(index - 1)) < PackedSwiftCode.encode(ordered.get(index)));
+        }
+    }
+
+    @Test
+    void encode_whenNotPackable_shouldReturnInvalid() {
+        assertEquals(PackedSwiftCode.INVALID, PackedSwiftCode.encode(null));
+        assertEquals(PackedSwiftCode.INVALID, PackedSwiftCode.encode(""));
+        assertEquals(PackedSwiftCode.INVALID, PackedSwiftCode.encode("abcdefghXXX"));
+        assertEquals(PackedSwiftCode.INVALID, PackedSwiftCode.encode("ABCD EFGXXX"));
+        assertEquals(PackedSwiftCode.INVALID, PackedSwiftCode.encode("ABCDEFGHXXXX"));
+    }
+
+    @Test
+    void prefixEnd_shouldBoundCodesStartingWithPrefix() {
+        long start = PackedSwiftCode.encode("12345678");
+        long end = PackedSwiftCode.prefixEnd("12345678");
+
+        assertTrue(PackedSwiftCode.encode("12345678ZZZ") < end);
+        assertTrue(PackedSwiftCode.encode("12345678000") >= start);
+        assertEquals(PackedSwiftCode.encode("12345679"), end);
+    }
+
+    @Test
+    void decode_whenNotPackedCode_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PackedSwiftCode.decode(PackedSwiftCode.INVALID));
+    }
+}
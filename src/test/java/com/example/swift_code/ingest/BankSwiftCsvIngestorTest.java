@@ -0,0 +1,288 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.RowViolationDto;
+import com.example.swift_code.dto.SyncResultDto;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.BankSwiftReject;
+import com.example.swift_code.exceptions.ImportValidationException;
+import com.example.swift_code.exceptions.UploadCancelledException;
+import com.example.swift_code.repository.BankSwiftFingerprint;
+import com.example.swift_code.repository.BankSwiftRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankSwiftCsvIngestorTest {
+
+    @Mock
+    BankSwiftRepository repository;
+
+    @Mock
+    BankSwiftLoaderFactory loaderFactory;
+
+    @Mock
+    BankSwiftLoader loader;
+
+    SwiftProperties properties = new SwiftProperties();
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    ParallelRowValidator validator;
+
+    BankSwiftCsvIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        properties.getIngest().setBatchSize(2);
+        properties.getIngest().setValidationParallelism(2);
+        validator = new ParallelRowValidator(Validation.buildDefaultValidatorFactory().getValidator(), properties);
+        ingestor = new BankSwiftCsvIngestor(repository, loaderFactory, validator, properties, new IngestMetrics(registry));
+        when(loaderFactory.open()).thenReturn(loader);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validator.shutdown();
+    }
+
+    private InputStream testCsv() {
+        return getClass().getResourceAsStream("/bank_swift_upload_test.csv");
+    }
+
+    private InputStream invalidCsv() {
+        return getClass().getResourceAsStream("/bank_swift_upload_invalid_test.csv");
+    }
+
+    private double rows(String stage) {
+        return registry.get("swift.ingest.rows").tag("stage", stage).counter().count();
+    }
+
+    private static final List<RowViolationDto> EXPECTED_VIOLATIONS = List.of(
+            new RowViolationDto(3, "12345678001", "NAME", "Bank name is mandatory"),
+            new RowViolationDto(5, "AAAAAAAAXXX", "COUNTRY ISO2 CODE", "Country ISO2 code is mandatory"),
+            new RowViolationDto(5, "AAAAAAAAXXX", "COUNTRY NAME", "Country name is mandatory"));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ingest_shouldWriteRowsInBatches() throws IOException {
+        ArgumentCaptor<List<BankSwift>> captor = ArgumentCaptor.forClass(List.class);
+
+        IngestProgress progress = new IngestProgress();
+        long written;
+        try (InputStream inputStream = testCsv()) {
+            written = ingestor.ingest(inputStream, ImportPolicy.FAIL_ALL, progress);
+        }
+
+        assertEquals(5, written);
+        assertEquals(5, progress.getRowsRead());
+        assertEquals(5, progress.getRowsValidated());
+        assertEquals(5, progress.getRowsWritten());
+        assertEquals(0, progress.getRowsRejected());
+        assertEquals(5, rows("parsed"));
+        assertEquals(5, rows("written"));
+        assertEquals(3, registry.get("swift.ingest.batch").tag("phase", "load").timer().count());
+        verify(loader, times(3)).load(captor.capture());
+        verify(loader, times(1)).finish();
+        verify(loader, never()).abort();
+        List<List<BankSwift>> batches = captor.getAllValues();
+        assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+
+        BankSwift headquarter = batches.get(0).get(0);
+        assertEquals(new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true), headquarter);
+        BankSwift lastBranch = batches.get(2).get(0);
+        assertEquals(new BankSwift("AAAAAAAA001", "AA", "Other Country", "Other Bank", "", false), lastBranch);
+    }
+
+    @Test
+    void ingest_whenPolicyIsFailAll_shouldReportEveryInvalidRowAndWriteNothing() {
+        IngestProgress progress = new IngestProgress();
+
+        ImportValidationException exception = assertThrows(ImportValidationException.class,
+                () -> ingestor.ingest(invalidCsv(), ImportPolicy.FAIL_ALL, progress));
+
+        assertEquals("Invalid SWIFT code format in 2 rows", exception.getMessage());
+        assertEquals(EXPECTED_VIOLATIONS, exception.getViolations());
+        assertEquals("Row 3 NAME: Bank name is mandatory. Row 5 COUNTRY ISO2 CODE: Country ISO2 code is mandatory. "
+                + "Row 5 COUNTRY NAME: Country name is mandatory.", exception.getViolationMessage());
+        assertEquals(5, progress.getRowsRead());
+        assertEquals(3, progress.getRowsValidated());
+        assertEquals(2, progress.getRowsRejected());
+        assertEquals(EXPECTED_VIOLATIONS, progress.getViolations());
+        verify(loader, never()).load(any());
+        verify(loader, never()).reject(any());
+        verify(loader, never()).finish();
+        verify(loader, times(1)).abort();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ingest_whenPolicyIsSkipInvalid_shouldWriteValidRowsOnly() {
+        ArgumentCaptor<List<BankSwift>> captor = ArgumentCaptor.forClass(List.class);
+        IngestProgress progress = new IngestProgress();
+
+        long written = ingestor.ingest(invalidCsv(), ImportPolicy.SKIP_INVALID, progress);
+
+        assertEquals(3, written);
+        assertEquals(2, progress.getRowsRejected());
+        assertEquals(EXPECTED_VIOLATIONS, progress.getViolations());
+        assertEquals(5, rows("parsed"));
+        assertEquals(3, rows("validated"));
+        assertEquals(3, rows("written"));
+        assertEquals(2, rows("rejected"));
+        verify(loader, times(3)).load(captor.capture());
+        assertEquals(List.of("12345678XXX", "12345678002", "AAAAAAAA001"), captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(BankSwift::getSwiftCode)
+                .toList());
+        verify(loader, never()).reject(any());
+        verify(loader, times(1)).finish();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ingest_whenPolicyIsQuarantineInvalid_shouldRejectInvalidRows() {
+        ArgumentCaptor<List<BankSwiftReject>> captor = ArgumentCaptor.forClass(List.class);
+
+        long written = ingestor.ingest(invalidCsv(), ImportPolicy.QUARANTINE_INVALID, new IngestProgress());
+
+        assertEquals(3, written);
+        verify(loader, times(2)).reject(captor.capture());
+        List<BankSwiftReject> rejects = captor.getAllValues().stream().flatMap(List::stream).toList();
+        assertEquals(2, rejects.size());
+        assertEquals(3, rejects.get(0).getRowNumber());
+        assertEquals("12345678001", rejects.get(0).getSwiftCode());
+        assertEquals("NAME: Bank name is mandatory", rejects.get(0).getViolations());
+        assertEquals(5, rejects.get(1).getRowNumber());
+        assertEquals("Other Bank", rejects.get(1).getBankName());
+        assertEquals("COUNTRY ISO2 CODE: Country ISO2 code is mandatory; COUNTRY NAME: Country name is mandatory",
+                rejects.get(1).getViolations());
+        assertNotNull(rejects.get(1).getRejectedAt());
+        verify(loader, times(1)).finish();
+    }
+
+    @Test
+    void ingest_shouldCapReportedViolations() {
+        properties.getIngest().setMaxReportedViolations(1);
+        IngestProgress progress = new IngestProgress();
+
+        ImportValidationException exception = assertThrows(ImportValidationException.class,
+                () -> ingestor.ingest(invalidCsv(), ImportPolicy.FAIL_ALL, progress));
+
+        assertEquals(List.of(EXPECTED_VIOLATIONS.get(0)), exception.getViolations());
+        assertEquals(List.of(EXPECTED_VIOLATIONS.get(0)), progress.getViolations());
+        assertEquals(2, progress.getRowsRejected());
+    }
+
+    @Test
+    void ingest_whenCsvIsMalformed_shouldThrowRuntimeException() {
+        InputStream malformed = new ByteArrayInputStream("header\n\"unterminated".getBytes(StandardCharsets.UTF_8));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> ingestor.ingest(malformed, ImportPolicy.FAIL_ALL, new IngestProgress()));
+        assertEquals("Error parsing CSV file", exception.getMessage());
+        verify(loader, never()).finish();
+        verify(loader, times(1)).abort();
+    }
+
+    @Test
+    void ingest_whenCancelled_shouldThrowUploadCancelledExceptionAndAbort() {
+        IngestProgress progress = new IngestProgress();
+        progress.cancel();
+
+        assertThrows(UploadCancelledException.class, () -> ingestor.ingest(testCsv(), ImportPolicy.FAIL_ALL, progress));
+
+        assertEquals(0, progress.getRowsRead());
+        verify(loader, never()).finish();
+        verify(loader, times(1)).abort();
+    }
+
+    private BankSwiftFingerprint fingerprint(String swiftCode, Long contentHash) {
+        BankSwiftFingerprint fingerprint = mock(BankSwiftFingerprint.class);
+        when(fingerprint.getSwiftCode()).thenReturn(swiftCode);
+        when(fingerprint.getContentHash()).thenReturn(contentHash);
+        return fingerprint;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void synchronize_shouldWriteOnlyChangedRowsAndDeleteMissingOnes() {
+        BankSwift unchangedHeadquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true);
+        BankSwift unchangedBranch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Test address branch 1", false);
+        List<BankSwiftFingerprint> fingerprints = List.of(
+                fingerprint("12345678XXX", unchangedHeadquarter.computeContentHash()),
+                fingerprint("12345678001", unchangedBranch.computeContentHash()),
+                fingerprint("12345678002", 42L),
+                fingerprint("AAAAAAAAXXX", null),
+                fingerprint("REMOVED0XXX", 7L));
+        when(repository.findAllFingerprints()).thenReturn(fingerprints);
+        ArgumentCaptor<List<BankSwift>> captor = ArgumentCaptor.forClass(List.class);
+        IngestProgress progress = new IngestProgress();
+
+        SyncResultDto result = ingestor.synchronize(testCsv(), ImportPolicy.FAIL_ALL, progress);
+
+        assertEquals(new SyncResultDto("SWIFT codes synchronized successfully.", false, 1, 2, 1, 2), result);
+        assertEquals(3, progress.getRowsValidated());
+        verify(loader, times(2)).load(captor.capture());
+        verify(loader, times(1)).finish();
+        assertEquals(List.of("12345678002", "AAAAAAAAXXX", "AAAAAAAA001"), captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(BankSwift::getSwiftCode)
+                .toList());
+        verify(repository, times(1)).deleteAllByIdInBatch(List.of("REMOVED0XXX"));
+    }
+
+    @Test
+    void synchronize_whenNothingChanged_shouldNotWriteAnything() throws IOException {
+        List<BankSwift> rows;
+        try (InputStream inputStream = testCsv()) {
+            ingestor.ingest(inputStream, ImportPolicy.FAIL_ALL, new IngestProgress());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<BankSwift>> captor = ArgumentCaptor.forClass(List.class);
+            verify(loader, times(3)).load(captor.capture());
+            rows = captor.getAllValues().stream().flatMap(List::stream).toList();
+        }
+        List<BankSwiftFingerprint> fingerprints = rows.stream()
+                .map(row -> fingerprint(row.getSwiftCode(), row.computeContentHash()))
+                .toList();
+        when(repository.findAllFingerprints()).thenReturn(fingerprints);
+        clearInvocations(loader);
+        IngestProgress progress = new IngestProgress();
+
+        SyncResultDto result = ingestor.synchronize(testCsv(), ImportPolicy.FAIL_ALL, progress);
+
+        assertEquals(new SyncResultDto("SWIFT codes synchronized successfully.", false, 0, 0, 0, 5), result);
+        assertFalse(result.hasChanges());
+        assertEquals(0, progress.getRowsValidated());
+        verify(loader, never()).load(any());
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void synchronize_whenPolicyIsSkipInvalid_shouldNotCountRejectedRows() {
+        when(repository.findAllFingerprints()).thenReturn(List.of());
+        ArgumentCaptor<List<BankSwift>> captor = ArgumentCaptor.forClass(List.class);
+
+        SyncResultDto result = ingestor.synchronize(invalidCsv(), ImportPolicy.SKIP_INVALID, new IngestProgress());
+
+        assertEquals(new SyncResultDto("SWIFT codes synchronized successfully.", false, 3, 0, 0, 0), result);
+        verify(loader, times(3)).load(captor.capture());
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.config.SwiftProperties.LoadMode;
+import com.example.swift_code.repository.BankSwiftRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankSwiftLoaderFactoryTest {
+
+    @Mock
+    BankSwiftRepository repository;
+
+    @Mock
+    DataSource dataSource;
+
+    @Mock
+    Connection connection;
+
+    @Spy
+    SwiftProperties properties = new SwiftProperties();
+
+    @InjectMocks
+    BankSwiftLoaderFactory loaderFactory;
+
+    @Test
+    void open_whenJdbcBatchMode_shouldReturnJdbcBatchLoader() {
+        assertInstanceOf(JdbcBatchLoader.class, loaderFactory.open());
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void open_whenCopyModeAndDatabaseIsNotPostgres_shouldFallBackToJdbcBatchLoader() throws SQLException {
+        properties.getIngest().setLoadMode(LoadMode.COPY);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(false);
+
+        assertInstanceOf(JdbcBatchLoader.class, loaderFactory.open());
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void open_whenCopyModeAndDatabaseIsPostgres_shouldReturnPostgresCopyLoader() throws SQLException {
+        properties.getIngest().setLoadMode(LoadMode.COPY);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+
+        assertInstanceOf(PostgresCopyLoader.class, loaderFactory.open());
+        verify(copyManager, times(1)).copyIn(PostgresCopyLoader.COPY);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.RowViolationDto;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.ingest.IngestRow.Change;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelRowValidatorTest {
+
+    ParallelRowValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        SwiftProperties properties = new SwiftProperties();
+        properties.getIngest().setValidationParallelism(4);
+        validator = new ParallelRowValidator(Validation.buildDefaultValidatorFactory().getValidator(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validator.shutdown();
+    }
+
+    @Test
+    void validate_whenRowsAreValid_shouldReturnNoViolations() {
+        List<IngestRow> rows = List.of(
+                new IngestRow(2, new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "", true), Change.NONE));
+
+        assertTrue(validator.validate(rows).isEmpty());
+    }
+
+    @Test
+    void validate_shouldReportViolationsInRowOrderWithCsvColumns() {
+        List<IngestRow> rows = LongStream.rangeClosed(2, 1001)
+                .mapToObj(rowNumber -> new IngestRow(rowNumber, rowNumber % 100 == 0
+                        ? new BankSwift("CODE" + rowNumber, "", "", "Test Bank", "", false)
+                        : new BankSwift("CODE" + rowNumber, "TT", "Test Country", "Test Bank", "", false), Change.NONE))
+                .toList();
+
+        List<RowViolationDto> violations = validator.validate(rows);
+
+        assertEquals(20, violations.size());
+        assertEquals(new RowViolationDto(100, "CODE100", "COUNTRY ISO2 CODE", "Country ISO2 code is mandatory"), violations.get(0));
+        assertEquals(new RowViolationDto(100, "CODE100", "COUNTRY NAME", "Country name is mandatory"), violations.get(1));
+        assertEquals(1000, violations.get(19).getRowNumber());
+        assertEquals(violations.stream().map(RowViolationDto::getRowNumber).sorted().toList(),
+                violations.stream().map(RowViolationDto::getRowNumber).toList());
+    }
+}
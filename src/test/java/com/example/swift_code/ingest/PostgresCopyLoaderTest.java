@@ -0,0 +1,118 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.BankSwiftReject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresCopyLoaderTest {
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    Statement statement;
+
+    @Mock
+    PGConnection pgConnection;
+
+    @Mock
+    CopyManager copyManager;
+
+    @Mock
+    CopyIn copyIn;
+
+    PostgresCopyLoader loader;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(PostgresCopyLoader.COPY)).thenReturn(copyIn);
+
+        loader = new PostgresCopyLoader(connection);
+    }
+
+    @Test
+    void constructor_shouldCreateStagingTableAndStartCopy() throws SQLException {
+        verify(statement, times(1)).execute(PostgresCopyLoader.CREATE_STAGING);
+        verify(copyManager, times(1)).copyIn(PostgresCopyLoader.COPY);
+    }
+
+    @Test
+    void load_shouldStreamBatchAsCsv() throws SQLException {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test \"Quoted\" Bank", "Street 1, Town", true);
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", null, false);
+        List<BankSwift> batch = List.of(headquarter, branch);
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+
+        loader.load(batch);
+
+        verify(copyIn, times(1)).writeToCopy(captor.capture(), eq(0), anyInt());
+        String expected = "\"12345678XXX\",\"TT\",\"Test Country\",\"Test \"\"Quoted\"\" Bank\",\"Street 1, Town\",true," + headquarter.computeContentHash() + ",\"12345678\"\n"
+                + "\"12345678001\",\"TT\",\"Test Country\",\"Test Bank\",,false," + branch.computeContentHash() + ",\"12345678\"\n";
+        assertEquals(expected, new String(captor.getValue(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void finish_shouldEndCopyAndMergeStagingTable() throws SQLException {
+        loader.finish();
+
+        verify(copyIn, times(1)).endCopy();
+        verify(statement, times(1)).execute(PostgresCopyLoader.MERGE);
+        verify(connection, never()).prepareStatement(PostgresCopyLoader.INSERT_REJECT);
+    }
+
+    @Test
+    void finish_withRejects_shouldInsertThemAfterMerge() throws SQLException {
+        PreparedStatement insert = mock(PreparedStatement.class);
+        when(connection.prepareStatement(PostgresCopyLoader.INSERT_REJECT)).thenReturn(insert);
+        Instant rejectedAt = Instant.parse("2025-01-01T00:00:00Z");
+        loader.reject(List.of(new BankSwiftReject(null, 3, "12345678001", "TT", "Test Country", "", null,
+                "NAME: Bank name is mandatory", rejectedAt)));
+
+        loader.finish();
+
+        var order = inOrder(copyIn, statement, insert);
+        order.verify(copyIn).endCopy();
+        order.verify(statement).execute(PostgresCopyLoader.MERGE);
+        order.verify(insert).setLong(1, 3);
+        order.verify(insert).setString(2, "12345678001");
+        order.verify(insert).setString(7, "NAME: Bank name is mandatory");
+        order.verify(insert).setTimestamp(8, Timestamp.from(rejectedAt));
+        order.verify(insert).addBatch();
+        order.verify(insert).executeBatch();
+    }
+
+    @Test
+    void abort_whenCopyActive_shouldCancelCopy() throws SQLException {
+        when(copyIn.isActive()).thenReturn(true);
+
+        loader.abort();
+
+        verify(copyIn, times(1)).cancelCopy();
+        verify(statement, never()).execute(PostgresCopyLoader.MERGE);
+    }
+}
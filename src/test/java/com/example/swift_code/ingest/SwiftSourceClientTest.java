@@ -0,0 +1,143 @@
+package com.example.swift_code.ingest;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.entity.SourceSyncState;
+import com.example.swift_code.repository.SourceSyncStateRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SwiftSourceClientTest {
+    private static final String CSV = "header\nrow\n";
+
+    @Mock
+    SourceSyncStateRepository stateRepository;
+
+    @Spy
+    SwiftProperties properties = new SwiftProperties();
+
+    @InjectMocks
+    SwiftSourceClient sourceClient;
+
+    HttpServer server;
+    List<String> receivedEtags = new ArrayList<>();
+    String sourceUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/swift.csv", exchange -> {
+            String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            receivedEtags.add(etag);
+            if ("\"v1\"".equals(etag)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                byte[] body = CSV.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        sourceUrl = "http://localhost:" + server.getAddress().getPort() + "/swift.csv";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void download_whenHttpSourceSeenFirstTime_shouldReturnBodyAndEtag() throws IOException {
+        properties.getSource().setUrl(new UrlResource(sourceUrl));
+        when(stateRepository.findById(sourceUrl)).thenReturn(Optional.empty());
+
+        SourceDownload download = sourceClient.download();
+
+        assertFalse(download.isNotModified());
+        try (InputStream inputStream = download.getInputStream()) {
+            assertEquals(CSV, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals("\"v1\"", download.getState().getEtag());
+        assertEquals(sourceUrl, download.getState().getSourceUrl());
+        assertEquals(CSV.length(), download.getContentLength());
+        assertNull(receivedEtags.get(0));
+    }
+
+    @Test
+    void download_whenHttpSourceUnchanged_shouldSendIfNoneMatchAndReturnNotModified() throws IOException {
+        properties.getSource().setUrl(new UrlResource(sourceUrl));
+        when(stateRepository.findById(sourceUrl)).thenReturn(Optional.of(new SourceSyncState(sourceUrl, "\"v1\"", null)));
+
+        SourceDownload download = sourceClient.download();
+
+        assertTrue(download.isNotModified());
+        assertEquals(List.of("\"v1\""), receivedEtags);
+    }
+
+    @Test
+    void open_shouldIgnoreStoredStateAndAlwaysDownload() throws IOException {
+        properties.getSource().setUrl(new UrlResource(sourceUrl));
+
+        SourceDownload download = sourceClient.open();
+        download.getInputStream().close();
+
+        assertFalse(download.isNotModified());
+        assertNull(receivedEtags.get(0));
+        verifyNoInteractions(stateRepository);
+    }
+
+    @Test
+    void download_whenFileSourceUnchanged_shouldReturnNotModified(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("swift.csv"), CSV);
+        FileSystemResource resource = new FileSystemResource(file);
+        properties.getSource().setUrl(resource);
+        String url = resource.getURL().toString();
+        when(stateRepository.findById(url)).thenReturn(Optional.empty());
+
+        SourceDownload first = sourceClient.download();
+        first.getInputStream().close();
+        when(stateRepository.findById(url)).thenReturn(Optional.of(first.getState()));
+        SourceDownload second = sourceClient.download();
+
+        assertFalse(first.isNotModified());
+        assertEquals(resource.lastModified(), first.getState().getLastModified());
+        assertTrue(second.isNotModified());
+    }
+
+    @Test
+    void markSynchronized_shouldSaveState() {
+        SourceSyncState state = new SourceSyncState(sourceUrl, "\"v1\"", null);
+
+        sourceClient.markSynchronized(state);
+
+        verify(stateRepository, times(1)).save(state);
+    }
+}
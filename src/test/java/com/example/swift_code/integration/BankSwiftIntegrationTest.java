@@ -1,29 +1,52 @@
 package com.example.swift_code.integration;
 
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.config.SwiftProperties;
 import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankNameSearchIndex;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.job.UploadJobExecutor;
 import com.example.swift_code.repository.BankSwiftRepository;
 import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(properties = "spring.profiles.active=test")
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @Transactional
 public class BankSwiftIntegrationTest {
 
@@ -33,6 +56,30 @@ public class BankSwiftIntegrationTest {
     @Autowired
     BankSwiftRepository repository;
 
+    @Autowired
+    BankSwiftPrefixIndex prefixIndex;
+
+    @Autowired
+    BankNameSearchIndex searchIndex;
+
+    @Autowired
+    SwiftProperties properties;
+
+    @Autowired
+    BankSwiftCache cache;
+
+    @MockitoBean
+    UploadJobExecutor uploadJobExecutor;
+
+    @BeforeEach
+    public void runUploadJobsInline() {
+        cache.invalidateAll();
+        when(uploadJobExecutor.submit(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
     @Test
     public void addBankSwift_whenValidInput_shouldReturnOk() throws Exception {
         Map<String, String> input = Map.of("address", "Test address",
@@ -167,6 +214,8 @@ public class BankSwiftIntegrationTest {
                 "Test address branch 1",
                 false);
         repository.save(other);
+        prefixIndex.rebuild();
+        searchIndex.rebuild();
     }
 
     @Test
@@ -179,6 +228,60 @@ public class BankSwiftIntegrationTest {
                 .andExpect(content().json(expectedResponse));
     }
 
+    @Test
+    public void deleteBank_shouldDeleteHeadquarterAndBranchesAndEvictCachedResponses() throws Exception {
+        setUpRepository();
+        mockMvc.perform(get("/v1/swift-codes/12345678XXX"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/swift-codes/country/TT"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/v1/swift-codes/bank/12345678"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"deleted\": 3, \"swiftCodes\": [\"12345678001\", \"12345678002\", \"12345678XXX\"]}", true));
+
+        mockMvc.perform(get("/v1/swift-codes/12345678XXX"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/swift-codes/country/TT"))
+                .andExpect(status().isNotFound());
+        assertTrue(prefixIndex.find("12345678001").isEmpty());
+        assertTrue(repository.existsById("AAAAAAAA001"));
+    }
+
+    @Test
+    public void deleteBankSwifts_shouldReportDeletedCodes() throws Exception {
+        setUpRepository();
+
+        mockMvc.perform(post("/v1/swift-codes/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"12345678001\", \"AAAAAAAA001\", \"UNKNOWN0XXX\"]"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"deleted\": 2, \"swiftCodes\": [\"12345678001\", \"AAAAAAAA001\"]}", true));
+
+        mockMvc.perform(delete("/v1/swift-codes/country/AA"))
+                .andExpect(status().isNotFound());
+        assertTrue(repository.existsById("12345678XXX"));
+    }
+
+    @Test
+    public void getBankSwift_whenBranchDeleted_shouldNotServeCachedHeadquarter() throws Exception {
+        setUpRepository();
+        mockMvc.perform(get("/v1/swift-codes/12345678XXX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches.length()").value(2));
+
+        mockMvc.perform(delete("/v1/swift-codes/12345678001"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/swift-codes/12345678XXX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches.length()").value(1))
+                .andExpect(jsonPath("$.branches[0].swiftCode").value("12345678002"));
+        mockMvc.perform(get("/v1/swift-codes/country/TT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches.length()").value(2));
+    }
+
     @Test
     public void getBankSwift_whenBranch_shouldReturnOk() throws Exception {
         setUpRepository();
@@ -189,6 +292,76 @@ public class BankSwiftIntegrationTest {
                 .andExpect(content().json(expectedResponse));
     }
 
+    @Test
+    public void addBankSwifts_shouldReportCreatedDuplicateAndInvalidItems() throws Exception {
+        setUpRepository();
+        String request = "["
+                + "{\"swiftCode\": \"BULKTT22XXX\", \"countryIS02\": \"TT\", \"countryName\": \"Test Country\", \"bankName\": \"Bulk Bank\", \"address\": \"Address\", \"isHeadquarter\": true},"
+                + "{\"swiftCode\": \"12345678XXX\", \"countryIS02\": \"TT\", \"countryName\": \"Test Country\", \"bankName\": \"Test Bank\", \"address\": \"Address\", \"isHeadquarter\": true},"
+                + "{\"swiftCode\": \"BULKTT22001\", \"countryIS02\": \"TT\", \"countryName\": \"Test Country\", \"bankName\": \"\", \"address\": \"Address\", \"isHeadquarter\": false}"
+                + "]";
+
+        mockMvc.perform(post("/v1/swift-codes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.results[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[2].message").value("Bank name is mandatory."));
+
+        assertTrue(repository.existsById("BULKTT22XXX"));
+        assertFalse(repository.existsById("BULKTT22001"));
+        mockMvc.perform(get("/v1/swift-codes/BULKTT22XXX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bankName").value("Bulk Bank"));
+    }
+
+    @Test
+    public void searchBankSwifts_shouldFindAddedCodesAndForgetDeletedOnes() throws Exception {
+        setUpRepository();
+        String request = "{\"swiftCode\": \"SRCHTT22XXX\", \"countryIS02\": \"TT\", \"countryName\": \"Test Country\", "
+                + "\"bankName\": \"Searchable Savings Bank\", \"address\": \"Address\", \"isHeadquarter\": true}";
+        mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/swift-codes/search").param("q", "savings").param("country", "TT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matches.length()").value(1))
+                .andExpect(jsonPath("$.matches[0].swiftCode").value("SRCHTT22XXX"))
+                .andExpect(jsonPath("$.matches[0].countryName").value("Test Country"));
+        mockMvc.perform(get("/v1/swift-codes/search").param("q", "test bank").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matches[0].swiftCode").value("12345678XXX"))
+                .andExpect(jsonPath("$.matches.length()").value(2));
+
+        mockMvc.perform(delete("/v1/swift-codes/SRCHTT22XXX"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/swift-codes/search").param("q", "savings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matches.length()").value(0));
+        mockMvc.perform(get("/v1/swift-codes/search").param("q", "ab"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void lookupBankSwifts_shouldReturnFoundAndNotFoundCodes() throws Exception {
+        setUpRepository();
+        String request = "{\"swiftCodes\": [\"12345678XXX\", \"AAAAAAAA001\", \"UNKNOWN0XXX\", \"12345678XXX\"], \"includeBranches\": true}";
+        String expectedResponse = new String(Files.readAllBytes(Paths.get("src/test/resources/lookup_integration_test.json")));
+
+        mockMvc.perform(post("/v1/swift-codes/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(content().json(expectedResponse, true));
+    }
+
     @Test
     public void getAllCountryCodes_whenValidInput_shouldReturnOk() throws Exception {
         setUpRepository();
@@ -199,6 +372,145 @@ public class BankSwiftIntegrationTest {
                 .andExpect(content().json(expectedResponse));
     }
 
+    @Test
+    public void getAllCountryCodes_whenEtagMatches_shouldReturnNotModifiedUntilDataChanges() throws Exception {
+        setUpRepository();
+        MockHttpServletResponse response = mockMvc.perform(get("/v1/swift-codes/country/TT"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertEquals(1, response.getHeaders(HttpHeaders.ETAG).size());
+        String etag = response.getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/swift-codes/country/TT").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/v1/swift-codes/12345678XXX").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete("/v1/swift-codes/12345678002"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/swift-codes/country/TT").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches.length()").value(2));
+    }
+
+    @Test
+    public void getAllCountryCodes_whenGzipAccepted_shouldReturnCompressedJson() throws Exception {
+        for (int branch = 1; branch <= 20; branch++) {
+            repository.save(new BankSwift(String.format("GZGZGZGZ%03d", branch), "GZ", "Gzip Country", "Gzip Bank",
+                    "Gzip address " + branch, false));
+        }
+        prefixIndex.rebuild();
+
+        MvcResult result = mockMvc.perform(get("/v1/swift-codes/country/GZ").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            JSONObject country = new JSONObject(new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(20, country.getJSONArray("branches").length());
+        }
+        mockMvc.perform(get("/v1/swift-codes/country/GZ"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.branches.length()").value(20));
+    }
+
+    @Test
+    public void getCountryCodesPage_shouldWalkCountryWithCursor() throws Exception {
+        setUpRepository();
+        String firstPage = mockMvc.perform(get("/v1/swift-codes/country/TT").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countryName").value("Test Country"))
+                .andExpect(jsonPath("$.branches[0].swiftCode").value("12345678001"))
+                .andExpect(jsonPath("$.branches[1].swiftCode").value("12345678002"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = new JSONObject(firstPage).getString("nextCursor");
+
+        mockMvc.perform(get("/v1/swift-codes/country/TT").param("limit", "2").param("after", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches.length()").value(1))
+                .andExpect(jsonPath("$.branches[0].swiftCode").value("12345678XXX"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void getCountryCodesPage_whenLimitTooLarge_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/country/TT").param("limit", "100000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be between 1 and 1000."));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportCodes_shouldStreamFilteredCodes() throws Exception {
+        setUpRepository();
+        try {
+            MvcResult ndjson = mockMvc.perform(get("/v1/swift-codes/export").param("country", "TT"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(ndjson))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", "application/x-ndjson"));
+            String[] lines = ndjson.getResponse().getContentAsString().split("\n");
+            assertEquals(3, lines.length);
+            assertEquals("12345678001", new JSONObject(lines[0]).getString("swiftCode"));
+            assertEquals("Test Country", new JSONObject(lines[2]).getString("countryName"));
+
+            MvcResult csv = mockMvc.perform(get("/v1/swift-codes/export").param("format", "csv").param("headquartersOnly", "true"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(csv))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"swift-codes.csv\""));
+            assertEquals("swiftCode,countryIS02,countryName,bankName,address,isHeadquarter\n"
+                    + "12345678XXX,TT,Test Country,Test Bank,Test address headquarter,true\n", csv.getResponse().getContentAsString());
+        } finally {
+            repository.deleteAll();
+            prefixIndex.rebuild();
+            searchIndex.rebuild();
+        searchIndex.rebuild();
+        }
+    }
+
+    @Test
+    public void exportCodes_whenFormatUnsupported_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format: xml"));
+    }
+
+    @Test
+    public void getAllCountryCodes_whenMemoryServed_shouldServeSnapshotAndApplyWrites() throws Exception {
+        setUpRepository();
+        properties.getDirectory().setMemoryServed(true);
+        try {
+            String expectedResponse = new String(Files.readAllBytes(Paths.get("src/test/resources/country_integration_test.json")));
+            mockMvc.perform(get("/v1/swift-codes/country/TT"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(expectedResponse));
+
+            mockMvc.perform(delete("/v1/swift-codes/12345678001"))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/v1/swift-codes/12345678XXX"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.branches.length()").value(1))
+                    .andExpect(jsonPath("$.branches[0].swiftCode").value("12345678002"));
+            mockMvc.perform(get("/v1/swift-codes/country/TT").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.branches.length()").value(2));
+        } finally {
+            properties.getDirectory().setMemoryServed(false);
+        }
+    }
+
     @Test
     public void getAllCountryCodes_whenNoCodesFound_shouldReturnNotFound() throws Exception {
         setUpRepository();
@@ -212,12 +524,79 @@ public class BankSwiftIntegrationTest {
     }
 
     @Test
-    public void uploadData_whenValidInput_shouldReturnOk() throws Exception {
-        Map<String, String> expectedResponse = Map.of("message", "SWIFT codes uploaded successfully.");
+    public void uploadData_whenValidInput_shouldReturnAccepted() throws Exception {
+        Map<String, String> expectedResponse = Map.of("message", "SWIFT codes uploaded successfully.",
+                "mode", "FULL",
+                "status", "SUCCEEDED");
         String jsonResponse = new JSONObject(expectedResponse).toString();
 
-        mockMvc.perform(post("/v1/swift-codes/upload"))
+        MvcResult result = mockMvc.perform(post("/v1/swift-codes/upload"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(content().json(jsonResponse))
+                .andExpect(jsonPath("$.rowsRead").value(5))
+                .andExpect(jsonPath("$.rowsValidated").value(5))
+                .andExpect(jsonPath("$.rowsWritten").value(5))
+                .andReturn();
+
+        mockMvc.perform(get(result.getResponse().getHeader("Location")))
                 .andExpect(status().isOk())
                 .andExpect(content().json(jsonResponse));
+
+        assertEquals(5, repository.count());
+        String expectedHeadquarter = new String(Files.readAllBytes(Paths.get("src/test/resources/headquarter_integration_test.json")));
+        mockMvc.perform(get("/v1/swift-codes/12345678XXX"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(expectedHeadquarter));
+    }
+
+    @Test
+    public void getUploadJob_whenJobNotExist_shouldReturnNotFound() throws Exception {
+        String jobId = "00000000-0000-0000-0000-000000000000";
+        Map<String, String> expectedResponse = Map.of("message", "Upload job: " + jobId + " not found.");
+        String jsonResponse = new JSONObject(expectedResponse).toString();
+
+        mockMvc.perform(get("/v1/swift-codes/upload/jobs/" + jobId))
+                .andExpect(status().isNotFound())
+                .andExpect(content().json(jsonResponse));
+    }
+
+    @Test
+    public void synchronizeData_shouldReportDeltaAndSkipUnchangedSource() throws Exception {
+        setUpRepository();
+        repository.save(new BankSwift("REMOVED0XXX", "TT", "Test Country", "Removed Bank", "Removed address", true));
+
+        mockMvc.perform(post("/v1/swift-codes/upload").param("mode", "delta"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().json("{\"mode\":\"DELTA\",\"status\":\"SUCCEEDED\",\"result\":"
+                        + "{\"notModified\":false,\"inserted\":1,\"updated\":1,\"deleted\":1,\"unchanged\":3}}"));
+
+        assertEquals(5, repository.count());
+        assertFalse(repository.existsById("REMOVED0XXX"));
+        assertEquals("Other Bank", repository.findById("AAAAAAAA001").orElseThrow().getBankName());
+
+        mockMvc.perform(post("/v1/swift-codes/upload").param("mode", "delta"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().json("{\"message\":\"SWIFT codes source not modified.\",\"result\":{\"notModified\":true}}"));
+    }
+
+    @Test
+    public void prometheus_shouldExposeEndpointQueryPoolCacheAndIngestMetrics() throws Exception {
+        mockMvc.perform(post("/v1/swift-codes/upload"))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(get("/v1/swift-codes/12345678XXX"))
+                .andExpect(status().isOk());
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(metrics.contains("uri=\"/v1/swift-codes/{swiftCode}\""));
+        assertTrue(metrics.contains("spring_data_repository_invocations_seconds_count{"));
+        assertTrue(metrics.contains("hikaricp_connections_active{"));
+        assertTrue(metrics.contains("cache_gets_total{cache=\"codes\""));
+        assertTrue(metrics.contains("swift_ingest_rows_total{stage=\"written\"}"));
+        assertTrue(metrics.contains("swift_ingest_batch_seconds_bucket{phase=\"load\""));
     }
 }
@@ -0,0 +1,73 @@
+package com.example.swift_code.integration;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankNameSearchIndex;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.repository.BankSwiftRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "swift.directory.memory-served=true",
+        "swift.cache.enabled=false"})
+@AutoConfigureMockMvc
+@Import(SqlStatementRecorder.RecordingDataSourceConfiguration.class)
+public class BankSwiftMemoryServedTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    BankSwiftRepository repository;
+
+    @Autowired
+    BankSwiftPrefixIndex prefixIndex;
+
+    @Autowired
+    BankNameSearchIndex searchIndex;
+
+    @Autowired
+    SqlStatementRecorder sql;
+
+    @BeforeEach
+    public void setUp() {
+        repository.saveAll(List.of(
+                new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true),
+                new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Test address branch 1", false),
+                new BankSwift("AAAAAAAA001", "AA", "Other Country", "Other Bank", "Test address other", false)));
+        prefixIndex.rebuild();
+        searchIndex.rebuild();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.deleteAll();
+        prefixIndex.rebuild();
+        searchIndex.rebuild();
+    }
+
+    @Test
+    public void reads_shouldNotTakeConnections() throws Exception {
+        sql.reset();
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/v1/swift-codes/12345678XXX")).andExpect(status().isOk());
+            mockMvc.perform(get("/v1/swift-codes/UNKNOWN0XXX")).andExpect(status().isNotFound());
+            mockMvc.perform(get("/v1/swift-codes/country/TT")).andExpect(status().isOk());
+            mockMvc.perform(get("/v1/swift-codes/country/AA").param("limit", "1")).andExpect(status().isOk());
+        }
+        sql.assertStatements(0);
+        sql.assertConnections(0);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.swift_code.integration;
+
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.config.ReadWriteRoutingDataSource;
+import com.example.swift_code.config.ReadYourWritesFilter;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "swift.database.replica.url=" + BankSwiftReplicaRoutingTest.REPLICA_URL,
+        "swift.database.replica.username=sa",
+        "swift.database.replica.password=",
+        "swift.database.replica.lag-query=select lag_seconds from replica_lag",
+        "swift.database.replica.max-lag=1s",
+        "swift.database.replica.check-interval=50ms",
+        "swift.cache.enabled=false"})
+@AutoConfigureMockMvc
+public class BankSwiftReplicaRoutingTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+    static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ReadWriteRoutingDataSource dataSource;
+
+    @MockitoSpyBean
+    BankSwiftCache cache;
+
+    @BeforeAll
+    public static void setUpReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        replica.execute("create table replica_lag (lag_seconds double precision not null)");
+        replica.update("insert into replica_lag values (0)");
+        replica.update("insert into bank_swift (swift_code, bank_base_code, countryis02, country_name, bank_name, address, is_headquarter) "
+                + "values ('RRRRRRRRXXX', 'RRRRRRRR', 'RR', 'Replica Country', 'Replica Bank', 'Replica address', true)");
+    }
+
+    @BeforeEach
+    public void awaitReplicaReads() throws InterruptedException {
+        await(dataSource::isReadingFromReplica);
+    }
+
+    @AfterEach
+    public void resetReplicaLag() {
+        replica.update("update replica_lag set lag_seconds = 0");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5 s");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void readOnlyRequests_shouldUseReplicaUntilItLags() throws Exception {
+        mockMvc.perform(get("/v1/swift-codes/country/RR"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches[0].swiftCode").value("RRRRRRRRXXX"));
+        mockMvc.perform(get("/v1/swift-codes/RRRRRRRRXXX"))
+                .andExpect(status().isOk());
+
+        replica.update("update replica_lag set lag_seconds = 60");
+        await(() -> !dataSource.isReplicaAvailable());
+
+        mockMvc.perform(get("/v1/swift-codes/country/RR"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void write_shouldKeepWritingClientOnPrimaryForMaxLag() throws Exception {
+        Cookie primaryUntil = mockMvc.perform(post("/v1/swift-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"swiftCode\": \"PPPPPPPPXXX\", \"countryIS02\": \"PP\", \"countryName\": \"Primary Country\", "
+                                + "\"bankName\": \"Primary Bank\", \"address\": \"Primary address\", \"isHeadquarter\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        mockMvc.perform(get("/v1/swift-codes/country/PP").cookie(primaryUntil))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.branches[0].swiftCode").value("PPPPPPPPXXX"));
+        mockMvc.perform(get("/v1/swift-codes/country/PP"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void upload_shouldNotKeepReadsOnPrimary() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            written.countDown();
+            assertTrue(read.await(5, TimeUnit.SECONDS));
+            return invocation.callRealMethod();
+        }).when(cache).invalidateAll();
+
+        mockMvc.perform(post("/v1/swift-codes/upload"))
+                .andExpect(status().isAccepted())
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE));
+        try {
+            assertTrue(written.await(5, TimeUnit.SECONDS));
+            mockMvc.perform(get("/v1/swift-codes/country/RR"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.branches[0].swiftCode").value("RRRRRRRRXXX"));
+        } finally {
+            read.countDown();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.swift_code.integration;
+
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.index.BankNameSearchIndex;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.job.UploadJobExecutor;
+import com.example.swift_code.repository.BankSwiftRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.profiles.active=test")
+@AutoConfigureMockMvc
+@Import(SqlStatementRecorder.RecordingDataSourceConfiguration.class)
+@Transactional
+public class BankSwiftStatementBudgetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    BankSwiftRepository repository;
+
+    @Autowired
+    BankSwiftPrefixIndex prefixIndex;
+
+    @Autowired
+    BankNameSearchIndex searchIndex;
+
+    @Autowired
+    BankSwiftCache cache;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    SqlStatementRecorder sql;
+
+    @MockitoBean
+    UploadJobExecutor uploadJobExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        cache.invalidateAll();
+        when(uploadJobExecutor.submit(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return CompletableFuture.completedFuture(null);
+        });
+        repository.saveAll(List.of(
+                new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true),
+                new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Test address branch 1", false),
+                new BankSwift("12345678002", "TT", "Test Country", "Test Bank", "Test address branch 2", false),
+                new BankSwift("AAAAAAAA001", "AA", "Other Country", "Other Bank", "Test address other", false)));
+        entityManager.flush();
+        prefixIndex.rebuild();
+        searchIndex.rebuild();
+        entityManager.clear();
+    }
+
+    private void perform(RequestBuilder request, ResultMatcher status, int budget) throws Exception {
+        sql.reset();
+        mockMvc.perform(request).andExpect(status);
+        sql.assertStatements(budget);
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String content) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(content);
+    }
+
+    @Test
+    public void getHeadquarter_shouldQueryCodeOnly() throws Exception {
+        perform(get("/v1/swift-codes/12345678XXX"), status().isOk(), 1);
+    }
+
+    @Test
+    public void getHeadquarter_whenCached_shouldNotQuery() throws Exception {
+        perform(get("/v1/swift-codes/12345678XXX"), status().isOk(), 1);
+        perform(get("/v1/swift-codes/12345678XXX"), status().isOk(), 0);
+    }
+
+    @Test
+    public void getBranch_shouldQueryCodeOnly() throws Exception {
+        perform(get("/v1/swift-codes/12345678001"), status().isOk(), 1);
+    }
+
+    @Test
+    public void getCode_whenNotFound_shouldQueryCodeOnly() throws Exception {
+        perform(get("/v1/swift-codes/UNKNOWN0XXX"), status().isNotFound(), 1);
+    }
+
+    @Test
+    public void getCountry_shouldQueryOnce() throws Exception {
+        perform(get("/v1/swift-codes/country/TT"), status().isOk(), 1);
+    }
+
+    @Test
+    public void getCountryPage_shouldQueryOnce() throws Exception {
+        perform(get("/v1/swift-codes/country/TT").param("limit", "2"), status().isOk(), 1);
+    }
+
+    @Test
+    public void lookup_shouldNotQuery() throws Exception {
+        perform(json(post("/v1/swift-codes/lookup"),
+                        "{\"swiftCodes\": [\"12345678XXX\", \"AAAAAAAA001\", \"UNKNOWN0XXX\"], \"includeBranches\": true}"),
+                status().isOk(), 0);
+    }
+
+    @Test
+    public void search_shouldNotQuery() throws Exception {
+        perform(get("/v1/swift-codes/search").param("q", "test"), status().isOk(), 0);
+    }
+
+    @Test
+    public void addBankSwift_shouldInsertOnce() throws Exception {
+        perform(json(post("/v1/swift-codes"), "{\"swiftCode\": \"BUDGETTTXXX\", \"countryIS02\": \"TT\", "
+                        + "\"countryName\": \"Test Country\", \"bankName\": \"Budget Bank\", \"address\": \"Address\", "
+                        + "\"isHeadquarter\": true}"),
+                status().isOk(), 1);
+    }
+
+    @Test
+    public void addBankSwifts_shouldInsertOncePerChunk() throws Exception {
+        perform(json(post("/v1/swift-codes/bulk"), "["
+                        + "{\"swiftCode\": \"BUDGETTTXXX\", \"countryIS02\": \"TT\", \"countryName\": \"Test Country\", \"bankName\": \"Budget Bank\", \"address\": \"Address\", \"isHeadquarter\": true},"
+                        + "{\"swiftCode\": \"BUDGETTT001\", \"countryIS02\": \"TT\", \"countryName\": \"Test Country\", \"bankName\": \"Budget Bank\", \"address\": \"Address\", \"isHeadquarter\": false},"
+                        + "{\"swiftCode\": \"12345678XXX\", \"countryIS02\": \"TT\", \"countryName\": \"Test Country\", \"bankName\": \"Test Bank\", \"address\": \"Address\", \"isHeadquarter\": true}]"),
+                status().isOk(), 1);
+    }
+
+    @Test
+    public void deleteBankSwift_shouldDeleteOnce() throws Exception {
+        perform(delete("/v1/swift-codes/12345678001"), status().isOk(), 1);
+    }
+
+    @Test
+    public void deleteBankSwifts_shouldDeleteOnce() throws Exception {
+        perform(json(post("/v1/swift-codes/bulk/delete"), "[\"12345678001\", \"AAAAAAAA001\", \"UNKNOWN0XXX\"]"),
+                status().isOk(), 1);
+    }
+
+    @Test
+    public void deleteBank_shouldDeleteOnce() throws Exception {
+        perform(delete("/v1/swift-codes/bank/12345678"), status().isOk(), 1);
+    }
+
+    @Test
+    public void deleteCountry_shouldDeleteOnce() throws Exception {
+        perform(delete("/v1/swift-codes/country/AA"), status().isOk(), 1);
+    }
+
+    @Test
+    public void upload_shouldUpsertOncePerBatchAndReloadIndexOnce() throws Exception {
+        perform(post("/v1/swift-codes/upload"), status().isAccepted(), 4);
+    }
+
+    @Test
+    public void synchronize_shouldReadFingerprintsOnceAndWriteOncePerBatch() throws Exception {
+        perform(post("/v1/swift-codes/upload").param("mode", "delta"), status().isAccepted(), 5);
+    }
+}
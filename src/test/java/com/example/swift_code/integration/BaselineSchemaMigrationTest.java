@@ -0,0 +1,56 @@
+package com.example.swift_code.integration;
+
+import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.repository.BankSwiftRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "spring.datasource.url=" + BaselineSchemaMigrationTest.URL,
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1"})
+public class BaselineSchemaMigrationTest {
+    static final String URL = "jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1";
+    static final JdbcTemplate database = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+
+    @Autowired
+    Flyway flyway;
+
+    @Autowired
+    BankSwiftRepository repository;
+
+    @BeforeAll
+    public static void createBaselineSchema() {
+        // The schema ddl-auto=update created for the original entity, before Flyway managed it
+        database.execute("create table bank_swift (is_headquarter boolean not null, address varchar(255), "
+                + "bank_name varchar(255), country_name varchar(255), countryis02 varchar(255), "
+                + "swift_code varchar(255) not null, primary key (swift_code))");
+        database.update("insert into bank_swift values (true, 'Test address', 'Test Bank', 'Test Country', 'TT', '12345678XXX')");
+    }
+
+    @Test
+    public void startup_shouldBaselineExistingSchemaAndApplyLaterMigrations() {
+        List<String> applied = Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString).toList();
+        assertEquals(List.of("1", "2", "3", "4", "5", "6"), applied);
+        assertEquals("<< Flyway Baseline >>", flyway.info().applied()[0].getDescription());
+        assertEquals(0, flyway.info().pending().length);
+
+        BankSwift migrated = repository.findById("12345678XXX").orElseThrow();
+        assertEquals("12345678", migrated.getBankBaseCode());
+        assertNull(migrated.getContentHash());
+        assertEquals(0, database.queryForObject("select count(*) from source_sync_state", Integer.class));
+        assertEquals(0, database.queryForObject("select count(*) from bank_swift_reject", Integer.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.swift_code.integration;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SqlStatementRecorder implements QueryExecutionListener, MethodExecutionListener {
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+        String sql = queries.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        statements.add(execution.isBatch() ? sql + " [batch of " + execution.getBatchSize() + "]" : sql);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext execution) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext execution) {
+        if (execution.getTarget() instanceof DataSource && execution.getMethod().getName().equals("getConnection")) {
+            connections.incrementAndGet();
+        }
+    }
+
+    public void reset() {
+        statements.clear();
+        connections.set(0);
+    }
+
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    public void assertStatements(int expected) {
+        assertEquals(expected, statements.size(), () -> "Unexpected SQL statements:\n" + String.join("\n", statements));
+    }
+
+    public void assertConnections(int expected) {
+        assertEquals(expected, connections.get(), "Unexpected connections taken from the data source");
+    }
+
+    @TestConfiguration
+    public static class RecordingDataSourceConfiguration {
+
+        @Bean
+        static SqlStatementRecorder sqlStatementRecorder() {
+            return new SqlStatementRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor(SqlStatementRecorder recorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(recorder).methodListener(recorder).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
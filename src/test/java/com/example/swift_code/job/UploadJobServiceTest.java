@@ -0,0 +1,206 @@
+package com.example.swift_code.job;
+
+import com.example.swift_code.config.SwiftProperties;
+import com.example.swift_code.dto.RowViolationDto;
+import com.example.swift_code.dto.SyncResultDto;
+import com.example.swift_code.dto.UploadJobDto;
+import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.exceptions.ImportValidationException;
+import com.example.swift_code.exceptions.UploadJobNotFoundException;
+import com.example.swift_code.exceptions.UploadJobRejectedException;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.ingest.IngestProgress;
+import com.example.swift_code.service.BankSwiftService;
+import jakarta.validation.ConstraintViolation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadJobServiceTest {
+
+    @Mock
+    BankSwiftService service;
+
+    SwiftProperties properties = new SwiftProperties();
+
+    UploadJobExecutor executor;
+
+    UploadJobService uploadJobService;
+
+    @BeforeEach
+    void setUp() {
+        properties.getUpload().setQueueCapacity(1);
+        executor = new UploadJobExecutor(properties, new MockEnvironment());
+        uploadJobService = new UploadJobService(service, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private UploadJobDto awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        UploadJobDto job = uploadJobService.getJob(jobId);
+        while (!job.getStatus().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = uploadJobService.getJob(jobId);
+        }
+        return job;
+    }
+
+    @Test
+    void submit_whenFullUploadSucceeds_shouldReportSucceeded() throws Exception {
+        UploadJobDto submitted = uploadJobService.submit(UploadMode.FULL, null);
+
+        UploadJobDto job = awaitFinished(submitted.getJobId());
+
+        assertEquals(UploadMode.FULL, job.getMode());
+        assertEquals(ImportPolicy.FAIL_ALL, job.getPolicy());
+        assertEquals(UploadStatus.SUCCEEDED, job.getStatus());
+        assertEquals("SWIFT codes uploaded successfully.", job.getMessage());
+        assertNotNull(job.getStartedAt());
+        assertNotNull(job.getFinishedAt());
+        assertNotNull(job.getRowsPerSecond());
+        verify(service, times(1)).downloadAndSaveBankSwiftData(eq(ImportPolicy.FAIL_ALL), any(IngestProgress.class));
+    }
+
+    @Test
+    void submit_whenDeltaUploadSucceeds_shouldReportSyncResult() throws Exception {
+        SyncResultDto result = new SyncResultDto("SWIFT codes synchronized successfully.", false, 1, 2, 3, 4);
+        when(service.synchronizeBankSwiftData(any(), any(IngestProgress.class))).thenReturn(result);
+
+        UploadJobDto job = awaitFinished(uploadJobService.submit(UploadMode.DELTA, null).getJobId());
+
+        assertEquals(UploadStatus.SUCCEEDED, job.getStatus());
+        assertEquals(result.getMessage(), job.getMessage());
+        assertEquals(result, job.getResult());
+    }
+
+    @Test
+    void submit_whenValidationFails_shouldReportFailedWithViolations() throws Exception {
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("SWIFT code is mandatory");
+        BankSwiftValidationException exception = new BankSwiftValidationException("Invalid SWIFT code format", Set.of(violation));
+        doThrow(exception).when(service).downloadAndSaveBankSwiftData(any(), any(IngestProgress.class));
+
+        UploadJobDto job = awaitFinished(uploadJobService.submit(UploadMode.FULL, null).getJobId());
+
+        assertEquals(UploadStatus.FAILED, job.getStatus());
+        assertEquals("Invalid SWIFT code format: SWIFT code is mandatory", job.getMessage());
+    }
+
+    @Test
+    void submit_whenImportValidationFails_shouldReportFailedWithRowViolations() throws Exception {
+        List<RowViolationDto> violations = List.of(new RowViolationDto(3, "12345678001", "NAME", "Bank name is mandatory"));
+        doAnswer(invocation -> {
+            IngestProgress progress = invocation.getArgument(1);
+            progress.rowsRejected(1, violations, 10);
+            throw new ImportValidationException("Invalid SWIFT code format in 1 rows", violations);
+        }).when(service).downloadAndSaveBankSwiftData(any(), any(IngestProgress.class));
+
+        UploadJobDto job = awaitFinished(uploadJobService.submit(UploadMode.FULL, ImportPolicy.SKIP_INVALID).getJobId());
+
+        assertEquals(ImportPolicy.SKIP_INVALID, job.getPolicy());
+        assertEquals(UploadStatus.FAILED, job.getStatus());
+        assertEquals("Invalid SWIFT code format in 1 rows", job.getMessage());
+        assertEquals(1, job.getRowsRejected());
+        assertEquals(violations, job.getViolations());
+        verify(service, times(1)).downloadAndSaveBankSwiftData(eq(ImportPolicy.SKIP_INVALID), any(IngestProgress.class));
+    }
+
+    @Test
+    void submit_whenDownloadFails_shouldReportFailed() throws Exception {
+        doThrow(new IOException("connection reset")).when(service).downloadAndSaveBankSwiftData(any(), any(IngestProgress.class));
+
+        UploadJobDto job = awaitFinished(uploadJobService.submit(UploadMode.FULL, null).getJobId());
+
+        assertEquals(UploadStatus.FAILED, job.getStatus());
+        assertEquals("SWIFT codes upload failed: connection reset", job.getMessage());
+    }
+
+    @Test
+    void cancel_whenRunning_shouldStopJobCooperatively() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            IngestProgress progress = invocation.getArgument(1);
+            started.countDown();
+            while (true) {
+                progress.checkCancelled();
+                Thread.sleep(5);
+            }
+        }).when(service).downloadAndSaveBankSwiftData(any(), any(IngestProgress.class));
+
+        UUID jobId = uploadJobService.submit(UploadMode.FULL, null).getJobId();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        uploadJobService.cancel(jobId);
+        UploadJobDto job = awaitFinished(jobId);
+
+        assertEquals(UploadStatus.CANCELLED, job.getStatus());
+        assertEquals("Upload job cancelled.", job.getMessage());
+    }
+
+    @Test
+    void cancel_whenQueued_shouldCancelWithoutRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(service).downloadAndSaveBankSwiftData(any(), any(IngestProgress.class));
+
+        UUID running = uploadJobService.submit(UploadMode.FULL, null).getJobId();
+        UUID queued = uploadJobService.submit(UploadMode.FULL, null).getJobId();
+        UploadJobDto cancelled = uploadJobService.cancel(queued);
+        release.countDown();
+
+        assertEquals(UploadStatus.CANCELLED, cancelled.getStatus());
+        assertEquals(UploadStatus.SUCCEEDED, awaitFinished(running).getStatus());
+        verify(service, times(1)).downloadAndSaveBankSwiftData(any(), any(IngestProgress.class));
+    }
+
+    @Test
+    void submit_whenQueueFull_shouldThrowUploadJobRejectedException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(service).downloadAndSaveBankSwiftData(any(), any(IngestProgress.class));
+
+        uploadJobService.submit(UploadMode.FULL, null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        uploadJobService.submit(UploadMode.FULL, null);
+        try {
+            assertThrows(UploadJobRejectedException.class, () -> uploadJobService.submit(UploadMode.FULL, null));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void getJob_whenUnknown_shouldThrowUploadJobNotFoundException() {
+        UUID jobId = UUID.randomUUID();
+
+        UploadJobNotFoundException exception = assertThrows(UploadJobNotFoundException.class, () -> uploadJobService.getJob(jobId));
+        assertEquals("Upload job: " + jobId + " not found.", exception.getMessage());
+    }
+}
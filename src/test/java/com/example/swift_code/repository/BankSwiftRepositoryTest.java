@@ -1,13 +1,18 @@
 package com.example.swift_code.repository;
 
 import com.example.swift_code.entity.BankSwift;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,13 +70,143 @@ class BankSwiftRepositoryTest {
         }
 
         @Test
-        public void findBySwiftCodeStartingWithAndSwiftCodeNot(){
-            List<BankSwift> branches = repository.findBySwiftCodeStartingWithAndSwiftCodeNot("TEST", "TESTXXX");
-            assertEquals(2, branches.size());
-
-            assertTrue(branches.contains(branch1));
-            assertTrue(branches.contains(branch2));
-            assertFalse(branches.contains(headquarter));
-            assertFalse(branches.contains(notBranch));
+        public void upsertBatch_shouldInsertNewAndUpdateExistingCodes(){
+            BankSwift updatedHeadquarter = new BankSwift(
+                    "TESTXXX",
+                    "TT",
+                    "Test Country",
+                    "Renamed Test Bank",
+                    "New address headquarter",
+                    true);
+            BankSwift newBranch = new BankSwift(
+                    "TEST003",
+                    "TT",
+                    "Test Country",
+                    "Test Bank",
+                    "Test address branch 3",
+                    false);
+
+            repository.upsertBatch(List.of(updatedHeadquarter, newBranch));
+
+            assertEquals(5, repository.count());
+            assertEquals(updatedHeadquarter, repository.findById("TESTXXX").orElseThrow());
+            assertEquals(newBranch, repository.findById("TEST003").orElseThrow());
+            assertEquals(updatedHeadquarter.computeContentHash(), repository.findById("TESTXXX").orElseThrow().getContentHash());
+        }
+
+        @Test
+        public void insertAbsent_shouldInsertOnlyCodesNotStoredYet(){
+            BankSwift duplicate = new BankSwift("TESTXXX", "TT", "Test Country", "Other Bank", "Other address", true);
+            BankSwift created = new BankSwift("ABCDTT22XXX", "TT", "Test Country", "Test Bank", "Address", true);
+
+            Set<String> inserted = repository.insertAbsent(List.of(duplicate, created));
+
+            assertEquals(Set.of("ABCDTT22XXX"), inserted);
+            entityManager.clear();
+            assertEquals("Test Bank", repository.findById("TESTXXX").orElseThrow().getBankName());
+            BankSwift stored = repository.findById("ABCDTT22XXX").orElseThrow();
+            assertEquals("ABCDTT22", stored.getBankBaseCode());
+            assertEquals(created.computeContentHash(), stored.getContentHash());
+        }
+
+        @Test
+        public void deleteCodes_shouldDeleteListedCodesAndReturnThem(){
+            List<BankSwift> deleted = repository.deleteCodes(List.of("TEST001", "TEST002", "UNKNOWN"));
+
+            assertEquals(Set.of(branch1, branch2), Set.copyOf(deleted));
+            assertFalse(repository.existsById("TEST001"));
+            assertTrue(repository.existsById("TESTXXX"));
+        }
+
+        @Test
+        public void deleteBank_shouldDeleteCodesWithBankBaseCode(){
+            BankSwift bankHeadquarter = new BankSwift("ABCDTT22XXX", "TT", "Test Country", "Test Bank", "Address", true);
+            BankSwift bankBranch = new BankSwift("ABCDTT22001", "TT", "Test Country", "Test Bank", "Address", false);
+            entityManager.persist(bankHeadquarter);
+            entityManager.persist(bankBranch);
+
+            List<BankSwift> deleted = repository.deleteBank("ABCDTT22");
+
+            assertEquals(Set.of(bankHeadquarter, bankBranch), Set.copyOf(deleted));
+            assertEquals(4, repository.count());
+        }
+
+        @Test
+        public void deleteCountry_shouldDeleteEveryCodeOfCountry(){
+            List<BankSwift> deleted = repository.deleteCountry("TT");
+
+            assertEquals(4, deleted.size());
+            assertEquals(0, repository.count());
+            assertTrue(repository.deleteCountry("TT").isEmpty());
+        }
+
+        @Test
+        public void insert_whenBankNameBlank_shouldBeRejectedByDatabase(){
+            var insert = entityManager.getEntityManager().createNativeQuery(
+                    "insert into bank_swift (swift_code, countryis02, country_name, bank_name, is_headquarter, bank_base_code) "
+                            + "values ('BLANKTT1XXX', 'TT', 'Test Country', ' ', true, 'BLANKTT1')");
+
+            assertThrows(PersistenceException.class, insert::executeUpdate);
+        }
+
+        @Test
+        public void findAllFingerprints_shouldReturnContentHashOfEveryCode(){
+            entityManager.flush();
+
+            List<BankSwiftFingerprint> fingerprints = repository.findAllFingerprints();
+
+            assertEquals(4, fingerprints.size());
+            BankSwiftFingerprint headquarterFingerprint = fingerprints.stream()
+                    .filter(fingerprint -> fingerprint.getSwiftCode().equals("TESTXXX"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(headquarter.computeContentHash(), headquarterFingerprint.getContentHash());
+        }
+
+        @Test
+        public void findSummariesByCountryIS02_shouldReturnUnmanagedSummaries(){
+            entityManager.flush();
+            entityManager.clear();
+
+            List<BankSwiftSummary> summaries = repository.findSummariesByCountryIS02("TT");
+
+            assertEquals(4, summaries.size());
+            assertTrue(summaries.contains(new BankSwiftSummary(
+                    "TESTXXX", "TT", "Test Country", "Test Bank", "Test address headquarter", true)));
+            assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+            assertTrue(repository.findSummariesByCountryIS02("XX").isEmpty());
+        }
+
+        @Test
+        public void findSummariesByCountryIS02After_shouldReturnOrderedPageAfterCode(){
+            List<String> firstPage = repository.findSummariesByCountryIS02After("TT", "", Limit.of(2))
+                    .stream().map(BankSwiftSummary::swiftCode).toList();
+            assertEquals(List.of(notBranch.getSwiftCode(), branch1.getSwiftCode()), firstPage);
+
+            List<String> secondPage = repository.findSummariesByCountryIS02After("TT", "TEST001", Limit.of(2))
+                    .stream().map(BankSwiftSummary::swiftCode).toList();
+            assertEquals(List.of(branch2.getSwiftCode(), headquarter.getSwiftCode()), secondPage);
+
+            assertTrue(repository.findSummariesByCountryIS02After("XX", "", Limit.of(2)).isEmpty());
+        }
+
+        @Test
+        public void streamAll_shouldStreamFilteredCodesInOrderWithoutManagingThem(){
+            entityManager.flush();
+            entityManager.clear();
+
+            List<BankSwift> all;
+            try (Stream<BankSwift> rows = repository.streamAll(null, false, 2)) {
+                all = rows.toList();
+            }
+            assertEquals(List.of(notBranch, branch1, branch2, headquarter), all);
+            assertFalse(entityManager.getEntityManager().contains(all.get(0)));
+
+            try (Stream<BankSwift> rows = repository.streamAll("TT", true, 2)) {
+                assertEquals(List.of(notBranch, headquarter), rows.toList());
+            }
+            try (Stream<BankSwift> rows = repository.streamAll("XX", false, 2)) {
+                assertEquals(0, rows.count());
+            }
         }
 }
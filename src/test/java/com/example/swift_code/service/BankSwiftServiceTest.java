@@ -1,28 +1,67 @@
 package com.example.swift_code.service;
 
+import com.example.swift_code.cache.BankSwiftCache;
+import com.example.swift_code.config.SwiftProperties;
 import com.example.swift_code.dto.BankSwiftDto;
+import com.example.swift_code.dto.BankSwiftLookupDto;
+import com.example.swift_code.dto.BankSwiftLookupRequestDto;
+import com.example.swift_code.dto.BankSwiftSearchDto;
+import com.example.swift_code.dto.BulkDeleteResultDto;
+import com.example.swift_code.dto.BulkItemResultDto;
+import com.example.swift_code.dto.BulkItemStatus;
+import com.example.swift_code.dto.BulkResultDto;
+import com.example.swift_code.dto.CountryBankSwiftDto;
+import com.example.swift_code.dto.CountryBankSwiftPageDto;
+import com.example.swift_code.dto.SyncResultDto;
 import com.example.swift_code.entity.BankSwift;
+import com.example.swift_code.entity.SourceSyncState;
 import com.example.swift_code.exceptions.BankSwiftDuplicateException;
 import com.example.swift_code.exceptions.BankSwiftNotFoundException;
 import com.example.swift_code.exceptions.BankSwiftValidationException;
+import com.example.swift_code.exceptions.BulkLimitExceededException;
+import com.example.swift_code.exceptions.InvalidPageRequestException;
+import com.example.swift_code.exceptions.InvalidSearchRequestException;
+import com.example.swift_code.exceptions.LookupLimitExceededException;
 import com.example.swift_code.exceptions.NoCodesFoundException;
+import com.example.swift_code.index.BankNameSearchIndex;
+import com.example.swift_code.index.BankSwiftCodes;
+import com.example.swift_code.index.BankSwiftDirectory;
+import com.example.swift_code.index.BankSwiftPrefixIndex;
+import com.example.swift_code.index.BankSwiftSnapshot;
+import com.example.swift_code.ingest.BankSwiftCsvIngestor;
+import com.example.swift_code.ingest.ImportPolicy;
+import com.example.swift_code.ingest.IngestProgress;
+import com.example.swift_code.ingest.SourceDownload;
+import com.example.swift_code.ingest.SwiftSourceClient;
 import com.example.swift_code.mapper.BankSwiftMapper;
 import com.example.swift_code.repository.BankSwiftRepository;
+import com.example.swift_code.repository.BankSwiftSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -36,28 +75,55 @@ class BankSwiftServiceTest {
     BankSwiftMapper mapper;
 
     @Mock
-    Validator validator;
+    BankSwiftPrefixIndex prefixIndex;
+
+    @Mock
+    BankNameSearchIndex searchIndex;
+
+    @Mock
+    BankSwiftDirectory directory;
+
+    @Mock
+    BankSwiftCsvIngestor ingestor;
+
+    @Mock
+    SwiftSourceClient sourceClient;
+
+    @Spy
+    SwiftProperties properties = new SwiftProperties();
+
+    @Spy
+    BankSwiftCache cache = new BankSwiftCache(properties, new ObjectMapper());
+
+    @Spy
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     BankSwiftService service;
 
     @BeforeEach
     void resetMocks() {
-        reset(repository, mapper);
+        reset(repository, mapper, prefixIndex, searchIndex, directory, ingestor, sourceClient);
+        cache.invalidateAll();
+        clearInvocations(cache);
     }
 
     @Test
     void addBankSwift_shouldSaveData() {
         BankSwiftDto bankSwiftDto = new BankSwiftDto();
+        BankSwift bankSwift = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
 
-        when(repository.existsById(bankSwiftDto.getSwiftCode())).thenReturn(false);
-        when(mapper.toEntity(bankSwiftDto)).thenReturn(new BankSwift());
+        when(mapper.toEntity(bankSwiftDto)).thenReturn(bankSwift);
+        when(repository.insertAbsent(List.of(bankSwift))).thenReturn(Set.of(bankSwift.getSwiftCode()));
 
         service.addBankSwift(bankSwiftDto);
 
-        verify(repository, times(1)).existsById(bankSwiftDto.getSwiftCode());
         verify(mapper, times(1)).toEntity(bankSwiftDto);
-        verify(repository, times(1)).saveAndFlush(any(BankSwift.class));
+        verify(repository, times(1)).insertAbsent(List.of(bankSwift));
+        verify(repository, never()).existsById(anyString());
+        verify(searchIndex, times(1)).put(bankSwift);
+        verify(prefixIndex, times(1)).put(bankSwift);
+        verify(cache, times(1)).invalidate(bankSwift);
     }
 
     @Test
@@ -65,39 +131,148 @@ class BankSwiftServiceTest {
         BankSwiftDto bankSwiftDto = new BankSwiftDto();
         bankSwiftDto.setSwiftCode("TESTXXX");
 
-        when(repository.existsById(bankSwiftDto.getSwiftCode())).thenReturn(true);
+        BankSwift bankSwift = new BankSwift("TESTXXX", "TT", "Test Country", "Test Bank", "Address", true);
+        when(mapper.toEntity(bankSwiftDto)).thenReturn(bankSwift);
+        when(repository.insertAbsent(List.of(bankSwift))).thenReturn(Set.of());
 
         BankSwiftDuplicateException exception = assertThrows(BankSwiftDuplicateException.class, () -> service.addBankSwift(bankSwiftDto));
         assertEquals("SWIFT code already exists: " + bankSwiftDto.getSwiftCode(), exception.getMessage());
 
-        verify(repository, times(1)).existsById(bankSwiftDto.getSwiftCode());
-        verify(mapper, never()).toEntity(bankSwiftDto);
-        verify(repository, never()).saveAndFlush(any(BankSwift.class));
+        verify(prefixIndex, never()).put(any(BankSwift.class));
+        verify(cache, never()).invalidate(any(BankSwift.class));
+    }
+
+    @Test
+    void addBankSwifts_shouldInsertInChunksAndReportEveryItem() {
+        properties.getBulk().setChunkSize(2);
+        BankSwiftDto first = dto("12345678001", false);
+        BankSwiftDto existing = dto("12345678002", false);
+        BankSwiftDto invalid = dto("12345678003", false);
+        invalid.setBankName(" ");
+        BankSwiftDto repeated = dto("12345678001", false);
+        BankSwiftDto headquarter = dto("12345678XXX", true);
+        when(mapper.toEntity(any(BankSwiftDto.class))).thenAnswer(invocation -> {
+            BankSwiftDto source = invocation.getArgument(0);
+            return new BankSwift(source.getSwiftCode(), source.getCountryIS02(), source.getCountryName(),
+                    source.getBankName(), source.getAddress(), source.isHeadquarter());
+        });
+        when(repository.insertAbsent(anyList())).thenReturn(Set.of("12345678001"), Set.of("12345678XXX"));
+
+        BulkResultDto result = service.addBankSwifts(List.of(first, existing, invalid, repeated, headquarter));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(1, result.getInvalid());
+        assertEquals(List.of(BulkItemStatus.CREATED, BulkItemStatus.DUPLICATE, BulkItemStatus.INVALID,
+                BulkItemStatus.DUPLICATE, BulkItemStatus.CREATED),
+                result.getResults().stream().map(BulkItemResultDto::getStatus).toList());
+        assertEquals("Bank name is mandatory.", result.getResults().get(2).getMessage());
+        assertEquals("SWIFT code repeated in request.", result.getResults().get(3).getMessage());
+        verify(repository, times(2)).insertAbsent(anyList());
+        InOrder inOrder = inOrder(prefixIndex, searchIndex, cache);
+        for (int chunk = 0; chunk < 2; chunk++) {
+            inOrder.verify(prefixIndex).putAll(anyCollection());
+            inOrder.verify(searchIndex).put(any(BankSwift.class));
+            inOrder.verify(cache).invalidate(any(BankSwift.class));
+        }
+    }
+
+    @Test
+    void addBankSwifts_whenTooManyItems_shouldThrowBulkLimitExceededException() {
+        properties.getBulk().setMaxItems(1);
+
+        BulkLimitExceededException exception = assertThrows(BulkLimitExceededException.class,
+                () -> service.addBankSwifts(List.of(new BankSwiftDto(), new BankSwiftDto())));
+
+        assertEquals("Bulk requests are limited to 1 SWIFT codes.", exception.getMessage());
+        verifyNoInteractions(repository);
     }
 
     @Test
     void deleteBankSwift_whenSwiftCodeFound_shouldDeleteData() {
         String swiftCode = "TESTXXX";
+        BankSwift bankSwift = new BankSwift(swiftCode, "TT", "Test Country", "Test Bank", "Address", true);
 
-        when(repository.existsById(swiftCode)).thenReturn(true);
+        when(repository.deleteCodes(List.of(swiftCode))).thenReturn(List.of(bankSwift));
 
         service.deleteBankSwift(swiftCode);
 
-        verify(repository, times(1)).existsById(swiftCode);
-        verify(repository, times(1)).deleteById(swiftCode);
+        verify(repository, times(1)).deleteCodes(List.of(swiftCode));
+        verify(repository, never()).findById(anyString());
+        verify(prefixIndex, times(1)).removeAll(List.of(swiftCode));
+        verify(searchIndex, times(1)).remove(swiftCode);
+        verify(cache, times(1)).invalidate(bankSwift);
     }
 
     @Test
     void deleteBankSwift_whenSwiftCodeNotFound_shouldThrowBankSwiftNotFoundException() {
         String swiftCode = "TESTXXX";
 
-        when(repository.existsById(swiftCode)).thenReturn(false);
+        when(repository.deleteCodes(List.of(swiftCode))).thenReturn(List.of());
 
         BankSwiftNotFoundException exception = assertThrows(BankSwiftNotFoundException.class, () -> service.deleteBankSwift(swiftCode));
         assertEquals("SWIFT code: " + swiftCode + " not found.", exception.getMessage());
 
-        verify(repository, times(1)).existsById(swiftCode);
-        verify(repository, never()).deleteById(swiftCode);
+        verify(prefixIndex, never()).removeAll(List.of(swiftCode));
+        verify(cache, never()).invalidate(any());
+    }
+
+    @Test
+    void deleteBankSwifts_shouldDeleteDistinctCodesAndEvictThem() {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        when(repository.deleteCodes(new LinkedHashSet<>(List.of("12345678XXX", "12345678001", "UNKNOWN0XXX"))))
+                .thenReturn(List.of(headquarter, branch));
+
+        BulkDeleteResultDto result = service.deleteBankSwifts(List.of("12345678XXX", "12345678001", "UNKNOWN0XXX", "12345678XXX"));
+
+        assertEquals(new BulkDeleteResultDto(2, List.of("12345678001", "12345678XXX")), result);
+        verify(prefixIndex, times(1)).removeAll(List.of("12345678001", "12345678XXX"));
+        verify(cache, times(1)).invalidate(headquarter);
+        verify(cache, times(1)).invalidate(branch);
+    }
+
+    @Test
+    void deleteBankSwifts_whenTooManyCodes_shouldThrowBulkLimitExceededException() {
+        properties.getBulk().setMaxItems(1);
+
+        assertThrows(BulkLimitExceededException.class, () -> service.deleteBankSwifts(List.of("A", "B")));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deleteBank_shouldDeleteHeadquarterAndBranches() {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        when(repository.deleteBank("12345678")).thenReturn(List.of(headquarter, branch));
+
+        BulkDeleteResultDto result = service.deleteBank("12345678");
+
+        assertEquals(List.of("12345678001", "12345678XXX"), result.getSwiftCodes());
+        verify(prefixIndex, times(1)).removeAll(List.of("12345678001", "12345678XXX"));
+        verify(cache, times(2)).invalidate(any(BankSwift.class));
+    }
+
+    @Test
+    void deleteBank_whenNothingDeleted_shouldThrowNoCodesFoundException() {
+        when(repository.deleteBank("12345678")).thenReturn(List.of());
+
+        NoCodesFoundException exception = assertThrows(NoCodesFoundException.class, () -> service.deleteBank("12345678"));
+
+        assertEquals("No SWIFT codes found for bank: 12345678", exception.getMessage());
+    }
+
+    @Test
+    void deleteCountry_shouldDeleteEveryCodeOfCountry() {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        when(repository.deleteCountry("TT")).thenReturn(List.of(headquarter));
+
+        assertEquals(new BulkDeleteResultDto(1, List.of("12345678XXX")), service.deleteCountry("TT"));
+        assertThrows(NoCodesFoundException.class, () -> service.deleteCountry("XX"));
+
+        verify(prefixIndex, times(1)).removeAll(List.of("12345678XXX"));
+        verify(cache, times(1)).invalidate(headquarter);
     }
 
     @Test
@@ -124,15 +299,34 @@ class BankSwiftServiceTest {
 
         when(repository.findById(swiftCode)).thenReturn(Optional.of(bankSwift));
         when(mapper.toDTOHeadquarter(bankSwift)).thenReturn(new BankSwiftDto());
-        when(repository.findBySwiftCodeStartingWithAndSwiftCodeNot("12345678", swiftCode)).thenReturn(List.of(new BankSwift()));
+        when(prefixIndex.findBranches(swiftCode)).thenReturn(List.of(new BankSwift()));
         when(mapper.toDTOReduced(any(BankSwift.class))).thenReturn(new BankSwiftDto());
 
         service.getBankSwiftDto(swiftCode);
 
         verify(repository, times(1)).findById(swiftCode);
         verify(mapper, times(1)).toDTOHeadquarter(bankSwift);
-        verify(repository, times(1)).findBySwiftCodeStartingWithAndSwiftCodeNot("12345678", swiftCode);
+        verify(prefixIndex, times(1)).findBranches(swiftCode);
         verify(mapper, times(1)).toDTOReduced(any(BankSwift.class));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void getBankSwiftDto_whenMemoryServed_shouldReadSnapshotInsteadOfRepository() {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        BankSwiftDto branchDto = new BankSwiftDto();
+        when(directory.isMemoryServed()).thenReturn(true);
+        when(directory.codes()).thenReturn(new BankSwiftCodes(BankSwiftSnapshot.of(List.of(headquarter, branch))));
+        when(prefixIndex.findBranches("12345678XXX")).thenReturn(List.of(branch));
+        when(mapper.toDTOHeadquarter(headquarter)).thenReturn(new BankSwiftDto());
+        when(mapper.toDTOReduced(branch)).thenReturn(branchDto);
+
+        BankSwiftDto result = service.getBankSwiftDto("12345678XXX");
+
+        assertEquals(List.of(branchDto), result.getBranches());
+        assertThrows(BankSwiftNotFoundException.class, () -> service.getBankSwiftDto("UNKNOWN0XXX"));
+        verifyNoInteractions(repository);
     }
 
     @Test
@@ -142,45 +336,259 @@ class BankSwiftServiceTest {
         assertThrows(BankSwiftNotFoundException.class, () -> service.getBankSwiftDto(swiftCode));
     }
 
+    @Test
+    void searchBankSwifts_shouldMapMatchesFromSearchIndex() {
+        BankSwift bankSwift = new BankSwift("DEUTDEFFXXX", "DE", "GERMANY", "DEUTSCHE BANK AG", "Address", true);
+        BankSwiftDto dto = new BankSwiftDto();
+        when(searchIndex.search("deutsche", "DE", 20)).thenReturn(List.of(bankSwift));
+        when(mapper.toDTOBranch(bankSwift)).thenReturn(dto);
+
+        BankSwiftSearchDto result = service.searchBankSwifts("deutsche", "DE", null);
+
+        assertEquals(new BankSwiftSearchDto("deutsche", List.of(dto)), result);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchBankSwifts_whenRequestInvalid_shouldThrowInvalidSearchRequestException() {
+        InvalidSearchRequestException limitException = assertThrows(InvalidSearchRequestException.class,
+                () -> service.searchBankSwifts("deutsche", null, 101));
+        assertEquals("Limit must be between 1 and 100.", limitException.getMessage());
+        InvalidSearchRequestException queryException = assertThrows(InvalidSearchRequestException.class,
+                () -> service.searchBankSwifts(" d. ", null, null));
+        assertEquals("Query must contain at least 3 letters or digits.", queryException.getMessage());
+        verifyNoInteractions(searchIndex);
+    }
+
     @Test
     void getAllCountryCodes_whenCodesExist_shouldReturnCountryBankSwiftDto() {
         String countryIS02 = "TT";
-        BankSwift entity = new BankSwift();
+        BankSwiftSummary summary = new BankSwiftSummary("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
         BankSwiftDto dto = new BankSwiftDto();
 
-        when(repository.findAllByCountryIS02(countryIS02)).thenReturn(List.of(entity));
-        when(mapper.toDTOReduced(entity)).thenReturn(dto);
+        when(repository.findSummariesByCountryIS02(countryIS02)).thenReturn(List.of(summary));
+        when(mapper.toDTOReduced(summary)).thenReturn(dto);
 
-        service.getAllCountryCodes("TT");
+        CountryBankSwiftDto countryDto = service.getAllCountryCodes("TT");
 
-        verify(repository, times(1)).findAllByCountryIS02(countryIS02);
-        verify(mapper, times(1)).toDTOReduced(entity);
+        assertEquals("Test Country", countryDto.getCountryName());
+        assertEquals(List.of(dto), countryDto.getBranches());
+        verify(repository, times(1)).findSummariesByCountryIS02(countryIS02);
+        verify(repository, never()).findAllByCountryIS02(anyString());
+        verify(mapper, times(1)).toDTOReduced(summary);
     }
 
     @Test
     void getAllCountryCodes_whenCodesNotExist_shouldThrowNoCodesFoundException() {
         String countryIS02 = "TT";
-        when(repository.findAllByCountryIS02(anyString())).thenReturn(List.of());
+        when(repository.findSummariesByCountryIS02(anyString())).thenReturn(List.of());
 
         assertThrows(NoCodesFoundException.class, () -> service.getAllCountryCodes(countryIS02));
 
-        verify(repository, times(1)).findAllByCountryIS02(countryIS02);
+        verify(repository, times(1)).findSummariesByCountryIS02(countryIS02);
+    }
+
+    @Test
+    void getCountryCodesPage_whenMoreRowsExist_shouldReturnPageWithNextCursor() {
+        BankSwiftSummary first = new BankSwiftSummary("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        BankSwiftSummary second = new BankSwiftSummary("12345678002", "TT", "Test Country", "Test Bank", "Address", false);
+        BankSwiftSummary third = new BankSwiftSummary("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        when(repository.findSummariesByCountryIS02After("TT", "", Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+        when(mapper.toDTOReduced(any(BankSwiftSummary.class))).thenAnswer(invocation -> new BankSwiftDto());
+
+        CountryBankSwiftPageDto page = service.getCountryCodesPage("TT", 2, null);
+
+        assertEquals("TT", page.getCountryIS02());
+        assertEquals("Test Country", page.getCountryName());
+        assertEquals(2, page.getBranches().size());
+        assertEquals("MTIzNDU2NzgwMDI", page.getNextCursor());
+        verify(mapper, times(2)).toDTOReduced(any(BankSwiftSummary.class));
+        verify(repository, never()).findSummariesByCountryIS02(anyString());
+    }
+
+    @Test
+    void getCountryCodesPage_whenMemoryServed_shouldPageSnapshot() {
+        BankSwift first = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        BankSwift second = new BankSwift("12345678002", "TT", "Test Country", "Test Bank", "Address", false);
+        BankSwift third = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        BankSwift other = new BankSwift("AAAAAAAA001", "AA", "Other Country", "Other Bank", "Address", false);
+        when(directory.isMemoryServed()).thenReturn(true);
+        when(directory.codes()).thenReturn(new BankSwiftCodes(BankSwiftSnapshot.of(List.of(third, other, second, first))));
+        when(mapper.toDTOReduced(any(BankSwift.class))).thenAnswer(invocation -> new BankSwiftDto());
+
+        CountryBankSwiftPageDto page = service.getCountryCodesPage("TT", 2, null);
+        CountryBankSwiftPageDto lastPage = service.getCountryCodesPage("TT", 2, page.getNextCursor());
+        CountryBankSwiftDto country = service.getAllCountryCodes("TT");
+
+        assertEquals("Test Country", page.getCountryName());
+        assertEquals(2, page.getBranches().size());
+        assertEquals("MTIzNDU2NzgwMDI", page.getNextCursor());
+        assertEquals(1, lastPage.getBranches().size());
+        assertNull(lastPage.getNextCursor());
+        assertEquals(3, country.getBranches().size());
+        assertThrows(NoCodesFoundException.class, () -> service.getAllCountryCodes("BB"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getCountryCodesPage_whenLastPage_shouldDecodeCursorAndReturnNoNextCursor() {
+        BankSwiftSummary third = new BankSwiftSummary("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        when(repository.findSummariesByCountryIS02After("TT", "12345678002", Limit.of(101)))
+                .thenReturn(List.of(third));
+        when(mapper.toDTOReduced(third)).thenReturn(new BankSwiftDto());
+
+        CountryBankSwiftPageDto page = service.getCountryCodesPage("TT", null, "MTIzNDU2NzgwMDI");
+
+        assertEquals(1, page.getBranches().size());
+        assertNull(page.getNextCursor());
     }
 
     @Test
-    void downloadAndSaveBankSwiftData_shouldDownloadAndSaveData() throws IOException {
-        when(validator.validate(any())).thenReturn(Set.of());
-        service.downloadAndSaveBankSwiftData();
-        verify(validator, times(1061)).validate(any());
-        verify(repository, times(1)).saveAll(any());
+    void getCountryCodesPage_whenCountryHasNoCodes_shouldThrowNoCodesFoundException() {
+        when(repository.findSummariesByCountryIS02After(eq("XX"), eq(""), any(Limit.class)))
+                .thenReturn(List.of());
+
+        assertThrows(NoCodesFoundException.class, () -> service.getCountryCodesPage("XX", 10, null));
+    }
+
+    @Test
+    void getCountryCodesPage_whenRequestInvalid_shouldThrowInvalidPageRequestException() {
+        InvalidPageRequestException limitException = assertThrows(InvalidPageRequestException.class,
+                () -> service.getCountryCodesPage("TT", 1001, null));
+        assertEquals("Limit must be between 1 and 1000.", limitException.getMessage());
+        assertThrows(InvalidPageRequestException.class, () -> service.getCountryCodesPage("TT", 0, null));
+        assertThrows(InvalidPageRequestException.class, () -> service.getCountryCodesPage("TT", 10, "not a cursor!"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void lookupBankSwifts_shouldResolveCodesFromIndex() {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        BankSwift branch = new BankSwift("12345678001", "TT", "Test Country", "Test Bank", "Address", false);
+        BankSwiftDto headquarterDto = new BankSwiftDto();
+        BankSwiftDto branchDto = new BankSwiftDto();
+        BankSwiftDto reducedBranchDto = new BankSwiftDto();
+        when(prefixIndex.find("12345678XXX")).thenReturn(Optional.of(headquarter));
+        when(prefixIndex.find("12345678001")).thenReturn(Optional.of(branch));
+        when(prefixIndex.find("UNKNOWN0XXX")).thenReturn(Optional.empty());
+        when(prefixIndex.findBranches("12345678XXX")).thenReturn(List.of(branch));
+        when(mapper.toDTOHeadquarter(headquarter)).thenReturn(headquarterDto);
+        when(mapper.toDTOBranch(branch)).thenReturn(branchDto);
+        when(mapper.toDTOReduced(branch)).thenReturn(reducedBranchDto);
+        List<String> swiftCodes = new ArrayList<>(List.of("12345678XXX", "UNKNOWN0XXX", "12345678001", "12345678XXX"));
+        swiftCodes.add(null);
+
+        BankSwiftLookupDto result = service.lookupBankSwifts(new BankSwiftLookupRequestDto(swiftCodes, true));
+
+        assertEquals(List.of(headquarterDto, branchDto), result.getFound());
+        assertEquals(List.of(reducedBranchDto), headquarterDto.getBranches());
+        assertEquals(Arrays.asList("UNKNOWN0XXX", null), result.getNotFound());
+        verify(prefixIndex, times(1)).find("12345678XXX");
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void lookupBankSwifts_whenBranchesNotRequested_shouldNotExpandHeadquarters() {
+        BankSwift headquarter = new BankSwift("12345678XXX", "TT", "Test Country", "Test Bank", "Address", true);
+        BankSwiftDto headquarterDto = new BankSwiftDto();
+        when(prefixIndex.find("12345678XXX")).thenReturn(Optional.of(headquarter));
+        when(mapper.toDTOHeadquarter(headquarter)).thenReturn(headquarterDto);
+
+        BankSwiftLookupDto result = service.lookupBankSwifts(new BankSwiftLookupRequestDto(List.of("12345678XXX"), false));
+
+        assertEquals(List.of(headquarterDto), result.getFound());
+        assertEquals(List.of(), result.getNotFound());
+        verify(prefixIndex, never()).findBranches(any());
+    }
+
+    @Test
+    void lookupBankSwifts_whenTooManyCodes_shouldThrowLookupLimitExceededException() {
+        properties.getLookup().setMaxCodes(1);
+        BankSwiftLookupRequestDto request = new BankSwiftLookupRequestDto(List.of("12345678XXX", "12345678001"), false);
+
+        LookupLimitExceededException exception = assertThrows(LookupLimitExceededException.class, () -> service.lookupBankSwifts(request));
+        assertEquals("Lookup is limited to 1 SWIFT codes per request.", exception.getMessage());
+        verifyNoInteractions(prefixIndex);
+    }
+
+    @Test
+    void downloadAndSaveBankSwiftData_shouldIngestSourceAndRebuildIndex() throws IOException {
+        IngestProgress progress = new IngestProgress();
+        when(sourceClient.open()).thenReturn(new SourceDownload(new ByteArrayInputStream(new byte[10]), 10, null));
+        when(ingestor.ingest(any(InputStream.class), eq(ImportPolicy.FAIL_ALL), eq(progress))).thenReturn(5L);
+
+        service.downloadAndSaveBankSwiftData(ImportPolicy.FAIL_ALL, progress);
+
+        verify(ingestor, times(1)).ingest(any(InputStream.class), eq(ImportPolicy.FAIL_ALL), eq(progress));
+        verify(prefixIndex, times(1)).rebuild();
+        verify(cache, times(1)).invalidateAll();
+        assertEquals(10, progress.getTotalBytes());
     }
 
     @Test
     void downloadAndSaveBankSwiftData_whenValidationFails_shouldThrowBankSwiftValidationException() throws IOException {
         @SuppressWarnings("unchecked")
         ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
-        when(validator.validate(any())).thenReturn(Set.of(violation));
-        assertThrows(BankSwiftValidationException.class, () -> service.downloadAndSaveBankSwiftData());
-        verify(validator, times(1)).validate(any());
+        BankSwiftValidationException validationException = new BankSwiftValidationException("Invalid SWIFT code format", Set.of(violation));
+        when(sourceClient.open()).thenReturn(new SourceDownload(new ByteArrayInputStream(new byte[0]), 0, null));
+        when(ingestor.ingest(any(InputStream.class), any(ImportPolicy.class), any(IngestProgress.class))).thenThrow(validationException);
+
+        assertThrows(BankSwiftValidationException.class, () -> service.downloadAndSaveBankSwiftData(ImportPolicy.FAIL_ALL, new IngestProgress()));
+
+        verify(ingestor, times(1)).ingest(any(InputStream.class), any(ImportPolicy.class), any(IngestProgress.class));
+        verify(prefixIndex, never()).rebuild();
+    }
+
+    @Test
+    void synchronizeBankSwiftData_whenSourceChanged_shouldSynchronizeAndStoreState() throws IOException {
+        SourceSyncState state = new SourceSyncState("http://source", "\"v2\"", null);
+        SyncResultDto result = new SyncResultDto("SWIFT codes synchronized successfully.", false, 1, 2, 3, 4);
+        when(sourceClient.download()).thenReturn(new SourceDownload(new ByteArrayInputStream(new byte[0]), 0, state));
+        when(ingestor.synchronize(any(InputStream.class), any(ImportPolicy.class), any(IngestProgress.class))).thenReturn(result);
+
+        assertEquals(result, service.synchronizeBankSwiftData(ImportPolicy.SKIP_INVALID, new IngestProgress()));
+
+        verify(sourceClient, times(1)).markSynchronized(state);
+        verify(prefixIndex, times(1)).rebuild();
+        verify(cache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void synchronizeBankSwiftData_whenNothingChanged_shouldNotRebuildIndex() throws IOException {
+        SourceSyncState state = new SourceSyncState("http://source", "\"v2\"", null);
+        SyncResultDto result = new SyncResultDto("SWIFT codes synchronized successfully.", false, 0, 0, 0, 4);
+        when(sourceClient.download()).thenReturn(new SourceDownload(new ByteArrayInputStream(new byte[0]), 0, state));
+        when(ingestor.synchronize(any(InputStream.class), any(ImportPolicy.class), any(IngestProgress.class))).thenReturn(result);
+
+        assertEquals(result, service.synchronizeBankSwiftData(ImportPolicy.SKIP_INVALID, new IngestProgress()));
+
+        verify(sourceClient, times(1)).markSynchronized(state);
+        verify(prefixIndex, never()).rebuild();
+        verify(cache, never()).invalidateAll();
+    }
+
+    @Test
+    void synchronizeBankSwiftData_whenSourceNotModified_shouldSkipIngestion() throws IOException {
+        SourceSyncState state = new SourceSyncState("http://source", "\"v1\"", null);
+        when(sourceClient.download()).thenReturn(SourceDownload.notModified(state));
+
+        SyncResultDto result = service.synchronizeBankSwiftData(ImportPolicy.SKIP_INVALID, new IngestProgress());
+
+        assertEquals(new SyncResultDto("SWIFT codes source not modified.", true, 0, 0, 0, 0), result);
+        verify(ingestor, never()).synchronize(any(), any(), any());
+        verify(sourceClient, never()).markSynchronized(any());
+        verify(prefixIndex, never()).rebuild();
+    }
+
+    private static BankSwiftDto dto(String swiftCode, boolean headquarter) {
+        BankSwiftDto bankSwiftDto = new BankSwiftDto();
+        bankSwiftDto.setSwiftCode(swiftCode);
+        bankSwiftDto.setCountryIS02("TT");
+        bankSwiftDto.setCountryName("Test Country");
+        bankSwiftDto.setBankName("Test Bank");
+        bankSwiftDto.setAddress("Address");
+        bankSwiftDto.setHeadquarter(headquarter);
+        return bankSwiftDto;
     }
 }